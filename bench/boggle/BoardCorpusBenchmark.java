@@ -0,0 +1,77 @@
+package boggle;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * BoardCorpusBenchmark Class
+ * <p>
+ * The BoardCorpusBenchmark class writes numBoards solved 4x4 boards from a fixed seed to a temporary corpus file once,
+ * then measures reading it in place: a full scan of the maximum scores, and unpacking boards picked at random.
+ **/
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class BoardCorpusBenchmark {
+
+    @Param({"100000"})
+    public int numBoards;
+
+    private Path _path;
+    private BoardCorpus _corpus;
+    private SplittableRandom _random;
+
+    @Setup
+    public void setUp() throws IOException {
+        Lexicon trie = Fixtures.loadTrie();
+        BoardSolver solver = new BoardSolver(trie);
+        BoardGenerator generator = new BoardGenerator(Fixtures.LARGE_BOARD_SEED);
+        _path = Files.createTempFile("board-corpus", ".bin");
+        Files.delete(_path);
+        try (BoardCorpus.Appender appender = new BoardCorpus.Appender(_path, 4, null)) {
+            for (int i = 0; i < numBoards; i++) {
+                appender.add(solver.solve(generator.nextBoard(4)));
+            }
+        }
+        _corpus = BoardCorpus.open(_path, trie);
+        _random = new SplittableRandom(7);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(_path);
+    }
+
+    @Benchmark
+    public long scanMaxScores() {
+        long totalScore = 0;
+        for (long i = 0; i < _corpus.getNumBoards(); i++) {
+            totalScore += _corpus.getMaxScore(i);
+        }
+        return totalScore;
+    }
+
+    @Benchmark
+    public int randomGetBoard() {
+        return _corpus.getBoard(_random.nextInt(numBoards)).getLetter(0);
+    }
+}
@@ -0,0 +1,52 @@
+package boggle;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * BoardFilterBenchmark Class
+ * <p>
+ * The BoardFilterBenchmark class measures the time taken to serve a board from a BoardFilter, sampled so that the
+ * results include the median and the 99th percentile as well as the worst case, for a filter that accepts every board
+ * and one that asks for at least 50 scoring words and 80 points.
+ **/
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class BoardFilterBenchmark {
+
+    @Param({"4", "5"})
+    public int dim;
+
+    @Param({"0", "50"})
+    public int minWords;
+
+    private BoardFilter _filter;
+
+    @Setup
+    public void setUp() throws IOException {
+        int minScore = (minWords == 0) ? 0 : 80;
+        _filter = new BoardFilter(Fixtures.loadTrie(), new BoardGenerator(42), minWords, Integer.MAX_VALUE, minScore,
+                Integer.MAX_VALUE);
+    }
+
+    @Benchmark
+    public int nextBoard() {
+        return _filter.nextBoard(dim).getMaxScore();
+    }
+}
@@ -0,0 +1,56 @@
+package boggle;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * BoardGeneratorBenchmark Class
+ * <p>
+ * The BoardGeneratorBenchmark class measures how many boards a BoardGenerator rolls per second, one at a time and in
+ * bulk into a reused array. Run it with -t to generate on several threads, each with its own generator.
+ **/
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class BoardGeneratorBenchmark {
+    private static final int BATCH = 4096;
+
+    @Param({"4", "5", "6", "32"})
+    public int dim;
+
+    private BoardGenerator _generator;
+    private byte[] _out;
+
+    @Setup
+    public void setUp() {
+        _generator = new BoardGenerator();
+        _out = new byte[BATCH * dim * dim];
+    }
+
+    @Benchmark
+    public int nextBoard() {
+        return _generator.nextBoard(dim).getLetter(0);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public int nextBoards() {
+        _generator.nextBoards(dim, _out, BATCH);
+        return _out[_out.length - 1];
+    }
+}
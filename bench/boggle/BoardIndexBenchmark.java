@@ -0,0 +1,73 @@
+package boggle;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * BoardIndexBenchmark Class
+ * <p>
+ * The BoardIndexBenchmark class builds an index of numBoards seeded 5x5 boards in a temporary file once, then measures
+ * queries against it: a rare word, a common word, and intersections of two and four words, with and without a minimum
+ * word count.
+ **/
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class BoardIndexBenchmark {
+
+    @Param({"100000"})
+    public int numBoards;
+
+    @Param({"quixotic", "tree", "tree rest", "the one ten tea"})
+    public String query;
+
+    @Param({"0", "200"})
+    public int minWords;
+
+    private Path _path;
+    private BoardIndex _index;
+    private String[] _words;
+
+    @Setup
+    public void setUp() throws IOException {
+        Lexicon trie = Fixtures.loadTrie();
+        BoardSolver solver = new BoardSolver(trie);
+        BoardGenerator generator = new BoardGenerator(Fixtures.LARGE_BOARD_SEED);
+        BoardIndex.Builder builder = new BoardIndex.Builder(trie, 5);
+        for (int i = 0; i < numBoards; i++) {
+            builder.add(solver.solve(generator.nextBoard(5)));
+        }
+        _path = Files.createTempFile("board-index", ".bin");
+        builder.write(_path);
+        _index = BoardIndex.map(_path, trie);
+        _words = query.split(" ");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(_path);
+    }
+
+    @Benchmark
+    public int find() {
+        return _index.find(_words, minWords).length;
+    }
+}
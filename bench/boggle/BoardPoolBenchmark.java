@@ -0,0 +1,74 @@
+package boggle;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * BoardPoolBenchmark Class
+ * <p>
+ * The BoardPoolBenchmark class samples how long take() takes on a full BoardPool, both when games are started
+ * slowly enough for the workers to keep up (a pause of pauseMicros after each take) and back to back, which empties
+ * the pool so that takes have to wait for the workers.
+ **/
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardPoolBenchmark {
+
+    @Param({"4", "5"})
+    public int dim;
+
+    @Param({"1", "2"})
+    public int numWorkers;
+
+    @Param({"0", "2000"})
+    public long pauseMicros;
+
+    private Lexicon _lexicon;
+    private BoardPool _pool;
+
+    @Setup
+    public void setUp() throws IOException {
+        _lexicon = Fixtures.loadTrie();
+    }
+
+    @Setup(Level.Iteration)
+    public void fillPool() throws InterruptedException {
+        _pool = new BoardPool(_lexicon, dim, BoardPool.DEFAULT_CAPACITY, numWorkers);
+        while (_pool.getDepth() < _pool.getCapacity()) {
+            Thread.sleep(10);
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void closePool() {
+        _pool.close();
+    }
+
+    @Benchmark
+    public int take() {
+        return _pool.take().getMaxScore();
+    }
+
+    @TearDown(Level.Invocation)
+    public void pause() throws InterruptedException {
+        TimeUnit.MICROSECONDS.sleep(pauseMicros);
+    }
+}
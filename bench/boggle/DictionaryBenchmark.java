@@ -0,0 +1,88 @@
+package boggle;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * DictionaryBenchmark Class
+ * <p>
+ * The DictionaryBenchmark class measures building the dictionary from the word list and looking words up in it. The
+ * "mapped" dictionary is the Dawg compiled to a DictionaryFile, so loading it only maps the file into memory. Each
+ * lookup takes the next word of a fixed list, alternating between a dictionary word and the first half of one (which
+ * usually is not a word), so both hits and misses are measured. JMH needs benchmark and state classes to be public.
+ **/
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class DictionaryBenchmark {
+
+    @Param({"trie", "dawg", "mapped"})
+    public String dictionary;
+
+    private Path _path;
+    private Lexicon _lexicon;
+    private String[] _lookups;
+    private int _next;
+
+    @Setup
+    public void setUp() throws IOException {
+        if ("mapped".equals(dictionary)) {
+            _path = Files.createTempFile("dictionary", ".bin");
+            DictionaryFile.write(Fixtures.loadDawg(), _path);
+        }
+        _lexicon = this.loadDictionary();
+        String[] words = Fixtures.readWords();
+        _lookups = new String[words.length];
+        for (int i = 0; i < words.length; i++) {
+            _lookups[i] = ((i % 2) == 0) ? words[i] : words[i].substring(0, (words[i].length() + 1) / 2);
+        }
+        _next = 0;
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        if (_path != null) {
+            Files.deleteIfExists(_path);
+        }
+    }
+
+    private Lexicon loadDictionary() throws IOException {
+        return "mapped".equals(dictionary) ? DictionaryFile.map(_path) : Fixtures.load(dictionary);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 3)
+    @Measurement(iterations = 10)
+    public int load() throws IOException {
+        return this.loadDictionary().getNumWords();
+    }
+
+    @Benchmark
+    public boolean containsWord() {
+        _next++;
+        if (_next == _lookups.length) {
+            _next = 0;
+        }
+        return _lexicon.containsWord(_lookups[_next]);
+    }
+}
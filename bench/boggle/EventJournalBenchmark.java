@@ -0,0 +1,90 @@
+package boggle;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * EventJournalBenchmark Class
+ * <p>
+ * The EventJournalBenchmark class measures what recording costs a Round: it plays a round on one of a fixed set of
+ * solved 4x4 boards, submitting every word on it and a word that is not, then ticks the timer until the round is over,
+ * either with no journal or recording into a new journal in a temporary file.
+ **/
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class EventJournalBenchmark {
+    private static final int NUM_BOARDS = 64;
+
+    @Param({"false", "true"})
+    public boolean recording;
+
+    private Lexicon _lexicon;
+    private AnswerSet[] _boards;
+    private int _next;
+    private Path _path;
+    private EventJournal _journal;
+
+    @Setup
+    public void setUp() throws IOException {
+        _lexicon = Fixtures.loadTrie();
+        BoardSolver solver = new BoardSolver(_lexicon);
+        BoardGenerator generator = new BoardGenerator(Fixtures.LARGE_BOARD_SEED);
+        _boards = new AnswerSet[NUM_BOARDS];
+        for (int i = 0; i < NUM_BOARDS; i++) {
+            _boards[i] = solver.solve(generator.nextBoard(4));
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void openJournal() throws IOException {
+        if (recording) {
+            _path = Files.createTempFile("event-journal", ".bin");
+            _journal = new EventJournal(_path);
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void closeJournal() throws IOException {
+        if (recording) {
+            _journal.close();
+            Files.delete(_path);
+        }
+    }
+
+    @Benchmark
+    public int playRound() {
+        Round round = new Round(_lexicon, _boards[_next]);
+        _next = (_next + 1) % NUM_BOARDS;
+        if (recording) {
+            _journal.record(round);
+        }
+        for (String word : round.getAnswers().getWords()) {
+            round.searchBoard(word);
+        }
+        round.searchBoard("zzzz");
+        for (int i = 0; i <= Round.ROUND_SECONDS; i++) {
+            round.tick();
+        }
+        return round.getScore();
+    }
+}
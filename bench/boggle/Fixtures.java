@@ -0,0 +1,87 @@
+package boggle;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+
+/**
+ * Fixtures Class
+ * <p>
+ * The Fixtures class holds the inputs shared by the JMH benchmarks in bench/: the dictionaries, the words of the word
+ * list, and the boards that are solved. The 4x4 and 5x5 boards are fixed letter strings and the larger boards are
+ * generated from a fixed seed, so every run measures exactly the same boards.
+ **/
+
+final class Fixtures {
+    static final String BOARD_4X4 = "pleierotthzhooae";
+    static final String BOARD_5X5 = "toarrbedteifdaienocerians";
+    static final long LARGE_BOARD_SEED = 42;
+
+    private Fixtures() {
+    }
+
+    /*
+    *       The readWords() method reads every word of the dictionary file, in order.
+    *
+    *   Input:   nothing.
+    *   Output:  the words.
+    *   Error:   IOException if the word list cannot be read.
+    */
+
+    static String[] readWords() throws IOException {
+        ArrayList<String> words = new ArrayList<>();
+        InputStream input = Fixtures.class.getResourceAsStream("/OpenEnglishWordList.txt");
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            String line = reader.readLine();
+            while (line != null) {
+                words.add(line);
+                line = reader.readLine();
+            }
+        }
+        return words.toArray(new String[0]);
+    }
+
+    /*
+    *       The loadTrie(), loadDawg() and load() methods build a dictionary from the word list.
+    *
+    *   Input:   dictionary - "trie" or "dawg" (load() only).
+    *   Output:  the filled Lexicon.
+    *   Error:   IOException if the word list cannot be read.
+    */
+
+    static DictTrie loadTrie() throws IOException {
+        DictTrie trie = new DictTrie();
+        new LineReader(trie).addToDict();
+        return trie;
+    }
+
+    static Dawg loadDawg() throws IOException {
+        Dawg.Builder builder = new Dawg.Builder();
+        new LineReader(builder).addToDict();
+        return builder.build();
+    }
+
+    static Lexicon load(String dictionary) throws IOException {
+        return "dawg".equals(dictionary) ? Fixtures.loadDawg() : Fixtures.loadTrie();
+    }
+
+    /*
+    *       The board() method returns one of the benchmark boards.
+    *
+    *   Input:   size - "4x4" or "5x5" for the fixed boards, or "NxN" for a board generated from LARGE_BOARD_SEED.
+    *   Output:  the PackedBoard.
+    */
+
+    static PackedBoard board(String size) {
+        if (size.equals("4x4")) {
+            return BatchSolver.parse(BOARD_4X4);
+        } else if (size.equals("5x5")) {
+            return BatchSolver.parse(BOARD_5X5);
+        }
+        int dim = Integer.parseInt(size.substring(0, size.indexOf('x')));
+        return new BoardGenerator(LARGE_BOARD_SEED).nextBoard(dim);
+    }
+}
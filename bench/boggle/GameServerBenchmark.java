@@ -0,0 +1,76 @@
+package boggle;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * GameServerBenchmark Class
+ * <p>
+ * The GameServerBenchmark class measures a GameServer under load: opening many 4x4 Rooms, then submitting every word
+ * on every board through the submission executor and waiting for all of them to be checked.
+ **/
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class GameServerBenchmark {
+
+    @Param({"10000"})
+    public int numRooms;
+
+    private Lexicon _lexicon;
+    private GameServer _server;
+
+    @Setup
+    public void setUp() throws IOException {
+        _lexicon = Fixtures.loadTrie();
+    }
+
+    @Setup(Level.Iteration)
+    public void startServer() {
+        _server = new GameServer(_lexicon);
+    }
+
+    @TearDown(Level.Iteration)
+    public void stopServer() {
+        _server.shutdown();
+    }
+
+    @Benchmark
+    public int openRoomsAndSubmitEveryWord() throws InterruptedException, ExecutionException {
+        ArrayList<Room> rooms = new ArrayList<>(numRooms);
+        for (int i = 0; i < numRooms; i++) {
+            rooms.add(_server.openRoom(4));
+        }
+        ArrayList<Future<Integer>> scores = new ArrayList<>();
+        for (Room room : rooms) {
+            for (String word : room.getAnswers().getWords()) {
+                scores.add(_server.submit(room.getId(), word));
+            }
+        }
+        int total = 0;
+        for (Future<Integer> score : scores) {
+            total += score.get();
+        }
+        return total;
+    }
+}
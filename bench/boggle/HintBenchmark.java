@@ -0,0 +1,54 @@
+package boggle;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * HintBenchmark Class
+ * <p>
+ * The HintBenchmark class measures hints in a Round on a seeded board: building the HintEngine, then asking for a
+ * hint and submitting the hinted word until every word worth points is found.
+ **/
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class HintBenchmark {
+
+    @Param({"4", "5", "6"})
+    public int dim;
+
+    private Lexicon _lexicon;
+    private AnswerSet _answers;
+
+    @Setup
+    public void setUp() throws IOException {
+        _lexicon = Fixtures.loadTrie();
+        _answers = new BoardSolver(_lexicon).solve(new BoardGenerator(Fixtures.LARGE_BOARD_SEED).nextBoard(dim));
+    }
+
+    @Benchmark
+    public int hintEveryWord() {
+        Round round = new Round(_lexicon, _answers);
+        HintEngine.Hint hint = round.getHint();
+        while (hint != null) {
+            round.searchBoard(hint.getWord());
+            hint = round.getHint();
+        }
+        return round.getScore();
+    }
+}
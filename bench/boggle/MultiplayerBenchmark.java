@@ -0,0 +1,66 @@
+package boggle;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * MultiplayerBenchmark Class
+ * <p>
+ * The MultiplayerBenchmark class measures submissions to one MultiplayerRound from many threads at once, each thread
+ * being its own player cycling through every word on a seeded 5x5 board.
+ **/
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@Threads(Threads.MAX)
+public class MultiplayerBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Shared {
+        MultiplayerRound _round;
+        String[] _answers;
+        final AtomicInteger _numPlayers = new AtomicInteger();
+
+        @Setup(Level.Iteration)
+        public void setUp() throws IOException {
+            _round = new MultiplayerRound(Fixtures.loadTrie(), new GameBoard(new BoardGenerator(42).nextBoard(5)));
+            _answers = new ArrayList<>(_round.getAnswers().getWords()).toArray(new String[0]);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Player {
+        String _playerId;
+        int _next;
+
+        @Setup(Level.Iteration)
+        public void setUp(Shared shared) {
+            _playerId = "player" + shared._numPlayers.getAndIncrement();
+            shared._round.join(_playerId);
+        }
+    }
+
+    @Benchmark
+    public boolean submit(Shared shared, Player player) {
+        String word = shared._answers[player._next];
+        player._next = (player._next + 1) % shared._answers.length;
+        return shared._round.searchBoard(player._playerId, word);
+    }
+}
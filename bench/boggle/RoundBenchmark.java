@@ -0,0 +1,53 @@
+package boggle;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * RoundBenchmark Class
+ * <p>
+ * The RoundBenchmark class measures playing a whole Round without any graphics: rolling and solving a new board,
+ * submitting every word on it, and ticking the timer until the round is over.
+ **/
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class RoundBenchmark {
+
+    @Param({"4", "5"})
+    public int dim;
+
+    private Lexicon _lexicon;
+
+    @Setup
+    public void setUp() throws IOException {
+        _lexicon = Fixtures.loadTrie();
+    }
+
+    @Benchmark
+    public int playRound() {
+        Round round = new Round(_lexicon, new GameBoard(dim));
+        for (String word : round.getAnswers().getWords()) {
+            round.searchBoard(word);
+        }
+        for (int i = 0; i <= Round.ROUND_SECONDS; i++) {
+            round.tick();
+        }
+        return round.getScore();
+    }
+}
@@ -0,0 +1,92 @@
+package boggle;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * SolveBenchmark Class
+ * <p>
+ * The SolveBenchmark class measures finding every word on a board with the BoardSolver, both one starting cell after
+ * another and with solveParallel(), and checking a single submitted word against a board with the WordValidator.
+ * solveParallel() only has enough starting cells to spread over the processors from 5x5 up, and the 32x32 board also
+ * covers the long[] bitmap of boards with more than 64 cells. The submissions alternate between words that are on the
+ * board and dictionary words that are not, the way typed guesses do.
+ **/
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class SolveBenchmark {
+
+    @Param({"4x4", "5x5", "6x6", "32x32"})
+    public String board;
+
+    @Param({"trie", "dawg"})
+    public String dictionary;
+
+    private PackedBoard _board;
+    private BoardSolver _solver;
+    private WordValidator _validator;
+    private String[] _submissions;
+    private int _next;
+
+    @Setup
+    public void setUp() throws IOException {
+        Lexicon lexicon = Fixtures.load(dictionary);
+        _board = Fixtures.board(board);
+        _solver = new BoardSolver(lexicon);
+        _validator = new WordValidator(lexicon);
+
+        AnswerSet answers = _solver.solve(_board);
+        String[] words = Fixtures.readWords();
+        ArrayList<String> submissions = new ArrayList<>();
+        int i = 0;
+        for (String answer : answers.getWords()) {
+            submissions.add(answer);
+            while ((i < words.length) && answers.contains(words[i])) {
+                i += 97;
+            }
+            if (i < words.length) {
+                submissions.add(words[i]);
+                i += 97;
+            }
+        }
+        _submissions = submissions.toArray(new String[0]);
+        _next = 0;
+    }
+
+    @Benchmark
+    public int solve() {
+        return _solver.solve(_board).size();
+    }
+
+    @Benchmark
+    public int solveParallel() {
+        return _solver.solveParallel(_board).size();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public boolean validateWord() {
+        _next++;
+        if (_next == _submissions.length) {
+            _next = 0;
+        }
+        return _validator.isValid(_submissions[_next], _board);
+    }
+}
@@ -0,0 +1,114 @@
+package boggle;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Set;
+
+/**
+ * AnswerSet Class
+ * <p>
+ * The AnswerSet class holds every word that can be formed on a single GameBoard, as found by the BoardSolver. For each
+ * word it keeps the first path of cells that was found to form it, where each cell is stored as (row * dim + col).
+ * Because the answers are computed once when the board is created, checking if a typed word is valid and finding the
+ * maximum achievable score no longer require searching the board. The AnswerSet also keeps the PackedBoard it was
+ * found on, so a board that was solved ahead of time (for example by the BoardFilter) can be played without solving it
+ * again.
+ * <p>
+ * The solver also finds words of one and two letters, which are in the dictionary but are worth no points. They are
+ * kept so that every word on the board can be looked up, so size() counts them, while getNumScoringWords() counts only
+ * the words that Round.pointsFor() gives points to.
+ **/
+
+class AnswerSet {
+    private final PackedBoard _board;
+    private final LinkedHashMap<String, int[]> _paths;
+    private int _maxScore;
+    private int _numScoringWords;
+
+    /*
+    *       The AnswerSet() constructor initializes an empty set of answers for the inputted board.
+    *
+    *   Input:   board - the board that was solved.
+    *   Output:  nothing.
+    */
+
+    AnswerSet(PackedBoard board) {
+        _board = board;
+        _paths = new LinkedHashMap<>();
+        _maxScore = 0;
+        _numScoringWords = 0;
+    }
+
+    /*
+    *       The add() method records a word and a copy of the path used to form it. If the word was already found
+    *   along another path, the first path is kept.
+    *
+    *   Input:   word - the word that was found.
+    *            path - the cells used to form the word.
+    *            length - the number of cells of path that are used.
+    *   Output:  nothing.
+    */
+
+    void add(String word, int[] path, int length) {
+        if (!_paths.containsKey(word)) {
+            _paths.put(word, Arrays.copyOf(path, length));
+            int points = Round.pointsFor(word);
+            if (points > 0) {
+                _maxScore += points;
+                _numScoringWords++;
+            }
+        }
+    }
+
+    /*
+    *       The addAll() method adds every word from another AnswerSet for the same board that is not already in this
+    *   one, so that the answers found by separate searches can be merged.
+    *
+    *   Input:   other - the AnswerSet to be merged into this one.
+    *   Output:  nothing.
+    */
+
+    void addAll(AnswerSet other) {
+        for (String word : other.getWords()) {
+            int[] path = other.getPath(word);
+            this.add(word, path, path.length);
+        }
+    }
+
+    /*
+    *                                                Getters
+    *
+    */
+
+    Boolean contains(String word) {
+        return _paths.containsKey(word);
+    }
+
+    int[] getPath(String word) {
+        return _paths.get(word);
+    }
+
+    Set<String> getWords() {
+        return _paths.keySet();
+    }
+
+    int size() {
+        return _paths.size();
+    }
+
+    int getMaxScore() {
+        return _maxScore;
+    }
+
+    int getNumScoringWords() {
+        return _numScoringWords;
+    }
+
+    PackedBoard getBoard() {
+        return _board;
+    }
+
+    int getDim() {
+        return _board.getDim();
+    }
+}
@@ -73,6 +73,8 @@ public class App extends Application {
         _stage.setScene(_scene);
         _stage.setTitle("Boggle!");
         _stage.show();
+
+        BoardPool.warmUp();
     }
 
      /*
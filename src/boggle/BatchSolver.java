@@ -0,0 +1,300 @@
+package boggle;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * BatchSolver Class
+ * <p>
+ * The BatchSolver class is the headless command line counterpart to App: it reads boards, one per line, from a file or
+ * from standard input, solves each against the shared dictionary, and writes one line of JSON per board (newline
+ * delimited JSON) to standard output, in the same order as the input. Each board is written as its letters, row by
+ * row, where 'q' is the Qu tile (so "abcdefghijklmnop" is a 4x4 board); any square number of letters is accepted.
+ * Each output line holds the board (in lowercase, as it was parsed), the number of words on it that score points
+ * (words of three or more letters), its maximum score, and optionally every word, including the words of one and two
+ * letters that score nothing:
+ * <pre>
+ *   {"board":"abcdefghijklmnop","words":12,"maxScore":14,"wordList":["fie","fin",...]}
+ * </pre>
+ * A line that is not a board is written as {"line":n,"error":"..."} instead, and blank lines are skipped.
+ * <p>
+ * The input is streamed: lines are read in batches of BATCH_SIZE, and each batch is solved by a pool of worker threads
+ * while the next ones are being read. At most MAX_PENDING_PER_WORKER batches per worker are in flight at once, and
+ * batches are written in the order they were read, so the memory used stays the same no matter how many boards are
+ * solved, and a slow batch only holds up the output until it is done.
+ * <p>
+ * Usage: java boggle.BatchSolver [--workers n] [--words] [file]
+ **/
+
+class BatchSolver {
+    static final int BATCH_SIZE = 256;
+    static final int MAX_PENDING_PER_WORKER = 4;
+
+    private final BoardSolver _solver;
+    private final boolean _includeWords;
+    private final int _numWorkers;
+
+    /*
+    *       The BatchSolver() constructor stores the settings of a batch run.
+    *
+    *   Input:   trie - the dictionary the boards are solved against.
+    *            includeWords - true if every word on each board should be written.
+    *            numWorkers - the number of worker threads solving boards.
+    *   Output:  nothing.
+    *   Error:   IllegalArgumentException if numWorkers is less than 1.
+    */
+
+    BatchSolver(Lexicon trie, boolean includeWords, int numWorkers) {
+        if (numWorkers < 1) {
+            throw new IllegalArgumentException("At least one worker is needed, not " + numWorkers);
+        }
+        _solver = new BoardSolver(trie);
+        _includeWords = includeWords;
+        _numWorkers = numWorkers;
+    }
+
+    /*
+    *       The run() method solves every board read from the input and writes the results to the output. The output
+    *   is flushed, but neither stream is closed.
+    *
+    *   Input:   reader - the boards, one per line.
+    *            writer - where the JSON lines are written.
+    *   Output:  the number of lines that were solved or reported as errors.
+    *   Error:   IOException if reading or writing fails.
+    */
+
+    long run(BufferedReader reader, Writer writer) throws IOException {
+        ExecutorService workers = Executors.newFixedThreadPool(_numWorkers, new WorkerFactory());
+        ArrayDeque<Future<String>> pending = new ArrayDeque<>();
+        int maxPending = _numWorkers * MAX_PENDING_PER_WORKER;
+        long numLines = 0;
+
+        try {
+            String[] batch = new String[BATCH_SIZE];
+            int size = 0;
+            String line = reader.readLine();
+            while (line != null) {
+                numLines++;
+                batch[size] = line;
+                size++;
+                line = reader.readLine();
+
+                if ((size == BATCH_SIZE) || (line == null)) {
+                    if (pending.size() == maxPending) {
+                        writer.write(BatchSolver.await(pending.removeFirst()));
+                    }
+                    pending.addLast(workers.submit(new SolveBatch(batch, size, numLines - size + 1)));
+                    batch = new String[BATCH_SIZE];
+                    size = 0;
+                }
+            }
+            while (!pending.isEmpty()) {
+                writer.write(BatchSolver.await(pending.removeFirst()));
+            }
+            writer.flush();
+        } finally {
+            workers.shutdownNow();
+        }
+        return numLines;
+    }
+
+    /*
+    *       The await() method waits for a batch to be solved.
+    *
+    *   Input:   batch - the Future of the batch.
+    *   Output:  the JSON lines of the batch.
+    *   Error:   IOException if the wait is interrupted, or IllegalStateException if solving the batch failed.
+    */
+
+    private static String await(Future<String> batch) throws IOException {
+        try {
+            return batch.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for a batch to be solved", ex);
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException("Solving a batch failed", ex.getCause());
+        }
+    }
+
+    /*
+    *       The parse() method converts a line of letters into a PackedBoard, where 'q' is the Qu tile.
+    *
+    *   Input:   letters - the letters of the board, row by row, in either case.
+    *   Output:  the PackedBoard.
+    *   Error:   IllegalArgumentException if the number of letters is not a square or a character is not a letter.
+    */
+
+    static PackedBoard parse(String letters) {
+        int dim = (int) Math.round(Math.sqrt(letters.length()));
+        if ((dim == 0) || ((dim * dim) != letters.length())) {
+            throw new IllegalArgumentException(letters.length() + " letters do not make a square board");
+        }
+        byte[] packed = new byte[letters.length()];
+        for (int i = 0; i < packed.length; i++) {
+            char letter = Character.toLowerCase(letters.charAt(i));
+            if ((letter < 'a') || (letter > 'z')) {
+                throw new IllegalArgumentException("Character " + (i + 1) + " is not a letter");
+            }
+            packed[i] = (letter == 'q') ? PackedBoard.QU : (byte) (letter - 'a');
+        }
+        return new PackedBoard(dim, packed);
+    }
+
+    /*
+    *       The appendLetters() method writes a board back out as the line of letters parse() reads, in lowercase with
+    *   'q' as the Qu tile. The letters come from the PackedBoard rather than the input line, so the output is the same
+    *   in every locale.
+    *
+    *   Input:   board - the parsed board.
+    *            out - where the letters are appended.
+    *   Output:  nothing.
+    */
+
+    static void appendLetters(PackedBoard board, StringBuilder out) {
+        for (int cell = 0; cell < board.getNumCells(); cell++) {
+            int tile = board.getLetter(cell);
+            out.append((tile == PackedBoard.QU) ? 'q' : (char) ('a' + tile));
+        }
+    }
+
+    /*
+    *       The appendJson() method solves a single line and appends its JSON line to out.
+    *
+    *   Input:   line - the line that was read.
+    *            lineNumber - the number of the line in the input, counting from 1.
+    *            out - the JSON lines of the batch.
+    *   Output:  nothing.
+    */
+
+    private void appendJson(String line, long lineNumber, StringBuilder out) {
+        String letters = line.trim();
+        if (letters.isEmpty()) {
+            return;
+        }
+
+        PackedBoard board;
+        try {
+            board = BatchSolver.parse(letters);
+        } catch (IllegalArgumentException ex) {
+            out.append("{\"line\":").append(lineNumber).append(",\"error\":\"").append(ex.getMessage()).append("\"}\n");
+            return;
+        }
+
+        AnswerSet answers = _solver.solve(board);
+        out.append("{\"board\":\"");
+        BatchSolver.appendLetters(board, out);
+        out.append("\",\"words\":").append(answers.getNumScoringWords()).append(",\"maxScore\":")
+                .append(answers.getMaxScore());
+        if (_includeWords) {
+            out.append(",\"wordList\":[");
+            boolean first = true;
+            for (String word : answers.getWords()) {
+                if (!first) {
+                    out.append(',');
+                }
+                out.append('"').append(word).append('"');
+                first = false;
+            }
+            out.append(']');
+        }
+        out.append("}\n");
+    }
+
+    /*
+    * ----------------------------------------------- Mainline ---------------------------------------------------
+    *
+    *       Solves the boards in the inputted file (or standard input if no file or "-" is given) with the inputted
+    *   number of worker threads (--workers, one per processor by default), writing every word only if --words is
+    *   given. Prints the number of boards and the time taken to standard error once the input ends.
+    * */
+    public static void main(String[] argv) throws IOException {
+        int numWorkers = Runtime.getRuntime().availableProcessors();
+        boolean includeWords = false;
+        String file = "-";
+        for (int i = 0; i < argv.length; i++) {
+            if (argv[i].equals("--workers") && ((i + 1) < argv.length)) {
+                i++;
+                numWorkers = Integer.parseInt(argv[i]);
+            } else if (argv[i].equals("--words")) {
+                includeWords = true;
+            } else if (argv[i].startsWith("--")) {
+                System.err.println("Usage: java boggle.BatchSolver [--workers n] [--words] [file]");
+                System.exit(2);
+            } else {
+                file = argv[i];
+            }
+        }
+
+        BatchSolver batchSolver = new BatchSolver(DictionaryService.get(), includeWords, numWorkers);
+        long start = System.nanoTime();
+        InputStream input = file.equals("-") ? System.in : new FileInputStream(file);
+        InputStreamReader decoder = new InputStreamReader(input, StandardCharsets.UTF_8);
+        try (BufferedReader reader = new BufferedReader(decoder, 1 << 16)) {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8), 1 << 16);
+            long numLines = batchSolver.run(reader, writer);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.err.printf("Solved %d lines in %.1f s (%.0f boards/s) with %d worker(s)%n", numLines, seconds,
+                    numLines / seconds, numWorkers);
+        }
+    }
+
+    /**
+     * SolveBatch Class
+     * <p>
+     * The SolveBatch class is the task a worker runs for a batch of lines. It returns their JSON lines as one string,
+     * so the batch is written with a single call.
+     **/
+
+    private class SolveBatch implements Callable<String> {
+        private final String[] _lines;
+        private final int _size;
+        private final long _firstLine;
+
+        SolveBatch(String[] lines, int size, long firstLine) {
+            _lines = lines;
+            _size = size;
+            _firstLine = firstLine;
+        }
+
+        public String call() {
+            StringBuilder out = new StringBuilder(_size * (_includeWords ? 1024 : 64));
+            for (int i = 0; i < _size; i++) {
+                BatchSolver.this.appendJson(_lines[i], _firstLine + i, out);
+            }
+            return out.toString();
+        }
+    }
+
+    /**
+     * WorkerFactory Class
+     * <p>
+     * The WorkerFactory class creates the named daemon threads that solve batches, so an unfinished run does not keep
+     * the JVM alive.
+     **/
+
+    private static class WorkerFactory implements ThreadFactory {
+        private int _numThreads = 0;
+
+        public synchronized Thread newThread(Runnable task) {
+            Thread worker = new Thread(task, "batch-solver-" + _numThreads);
+            _numThreads++;
+            worker.setDaemon(true);
+            return worker;
+        }
+    }
+}
@@ -0,0 +1,407 @@
+package boggle;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * BoardCorpus Class
+ * <p>
+ * The BoardCorpus class defines a compact binary format for storing large numbers of solved boards of one dimension,
+ * and reads corpus files in place by mapping them into memory, so that billions of boards can be stored and scanned
+ * without the JVM heap ever holding them. Every board is stored as a record of the same size, so board i is found by
+ * multiplying instead of searching. Each record holds:
+ * <pre>
+ *   tiles      dim * dim tiles of 5 bits each (the alphabet index, or QU), packed from the lowest bit of the first
+ *              byte up and padded to a whole byte
+ *   words      int: the number of scoring words on the board
+ *   maxScore   int: the maximum achievable score of the board
+ *   answers    optional, one bit per word of the dictionary, set if the word is on the board (bit i of the bitmap is
+ *              bit i % 8 of byte i / 8, where i is the word ID from the Lexicon)
+ * </pre>
+ * A 4x4 record without answers takes 18 bytes. The answer bitmap lets any word be looked up on any board in constant
+ * time, but it is as large as the dictionary (22 KB for 178k words), so it is only worth storing for corpora that are
+ * queried by word; the BoardIndex is the compact choice for that.
+ * <p>
+ * The file starts with a header of little-endian values: MAGIC, VERSION, dimension, flags (bit 0 is set if the
+ * records hold answers), number of words in the dictionary, record size in bytes, and the number of boards as a long.
+ * The number of boards in the header is only brought up to date when an Appender flushes, so a corpus whose writer
+ * crashed has a header that counts too few boards. The reader therefore counts the whole records in the file instead,
+ * ignoring a partly written last record, and only rejects files that hold fewer boards than their header says.
+ * A single MappedByteBuffer cannot cover more than 2 GB, so the records are mapped in segments of whole records and
+ * board i is read from segment i / recordsPerSegment.
+ * <p>
+ * Boards are added with a BoardCorpus.Appender, which streams records to the end of a new or existing file.
+ **/
+
+class BoardCorpus {
+    static final int MAGIC = 0x42474352;
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 6 * Integer.BYTES + Long.BYTES;
+    static final int FLAG_ANSWERS = 1;
+    static final int TILE_BITS = 5;
+    static final int TILE_MASK = (1 << TILE_BITS) - 1;
+    static final int MAX_SEGMENT_BYTES = 1 << 30;
+
+    private final Lexicon _trie;
+    private final MappedByteBuffer[] _segments;
+    private final int _dim;
+    private final boolean _hasAnswers;
+    private final int _tileBytes;
+    private final int _recordBytes;
+    private final int _recordsPerSegment;
+    private final long _numBoards;
+
+    /*
+    *       The BoardCorpus() constructor maps every segment of a corpus file. It is only called by open(), which
+    *   checks the header first.
+    *
+    *   Input:   channel - the open corpus file.
+    *            header - the header of the file (little-endian).
+    *            trie - the dictionary the answers refer to.
+    *   Output:  nothing.
+    *   Error:   IOException if the file cannot be mapped.
+    */
+
+    private BoardCorpus(FileChannel channel, ByteBuffer header, Lexicon trie) throws IOException {
+        _trie = trie;
+        _dim = header.getInt(8);
+        _hasAnswers = (header.getInt(12) & FLAG_ANSWERS) != 0;
+        _tileBytes = BoardCorpus.getTileBytes(_dim);
+        _recordBytes = header.getInt(20);
+        _numBoards = header.getLong(24);
+        _recordsPerSegment = Math.max(1, MAX_SEGMENT_BYTES / _recordBytes);
+
+        int numSegments = (int) ((_numBoards + _recordsPerSegment - 1) / _recordsPerSegment);
+        _segments = new MappedByteBuffer[numSegments];
+        long segmentBytes = (long) _recordsPerSegment * _recordBytes;
+        for (int i = 0; i < numSegments; i++) {
+            long start = HEADER_BYTES + (i * segmentBytes);
+            long length = Math.min(segmentBytes, (_numBoards * _recordBytes) - (i * segmentBytes));
+            _segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+            _segments[i].order(ByteOrder.LITTLE_ENDIAN);
+        }
+    }
+
+    /*
+    *       The open() method maps a corpus file into memory. Nothing is copied onto the heap.
+    *
+    *   Input:   path - the corpus file.
+    *            trie - the dictionary the boards were solved with, used to look up the IDs of queried words.
+    *   Output:  a BoardCorpus over the file.
+    *   Error:   IOException if the file cannot be read, is not a corpus, or its answers refer to another dictionary.
+    */
+
+    static BoardCorpus open(Path path, Lexicon trie) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = BoardCorpus.readHeader(channel, path);
+            if (((header.getInt(12) & FLAG_ANSWERS) != 0) && (header.getInt(16) != trie.getNumWords())) {
+                throw new IOException(path + " was solved with a dictionary of " + header.getInt(16) + " words, not "
+                        + trie.getNumWords());
+            }
+            return new BoardCorpus(channel, header, trie);
+        }
+    }
+
+    /*
+    *       The readHeader() method reads and checks the header of a corpus file.
+    *
+    *   Input:   channel - the open corpus file.
+    *            path - the path of the file, for error messages.
+    *   Output:  the header (little-endian), with the number of boards replaced by the number of whole records in
+    *            the file.
+    *   Error:   IOException if the file is not a corpus, has another version, or holds fewer boards than the header
+    *            says.
+    */
+
+    private static ByteBuffer readHeader(FileChannel channel, Path path) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        while (header.hasRemaining() && (channel.read(header, header.position()) > 0)) {
+            //Keep reading until the header is full or the file ends.
+        }
+        if (header.hasRemaining() || (header.getInt(0) != MAGIC)) {
+            throw new IOException(path + " is not a board corpus");
+        }
+        if (header.getInt(4) != VERSION) {
+            throw new IOException(path + " has unsupported version " + header.getInt(4));
+        }
+        int dim = header.getInt(8);
+        boolean hasAnswers = (header.getInt(12) & FLAG_ANSWERS) != 0;
+        if ((dim < 1) || (header.getInt(20) != BoardCorpus.getRecordBytes(dim, hasAnswers, header.getInt(16)))) {
+            throw new IOException(path + " is corrupt");
+        }
+        long numBoards = (channel.size() - HEADER_BYTES) / header.getInt(20);
+        if (numBoards < header.getLong(24)) {
+            throw new IOException(path + " is truncated: it holds " + numBoards + " of " + header.getLong(24)
+                    + " boards");
+        }
+        header.putLong(24, numBoards);
+        return header;
+    }
+
+    /*
+    *       The getTileBytes() and getRecordBytes() methods compute the size of the tiles of a record, and of a whole
+    *   record.
+    *
+    *   Input:   dim - the dimension of the boards.
+    *            hasAnswers - true if the records hold answer bitmaps.
+    *            numWords - the number of words in the dictionary.
+    *   Output:  the size in bytes.
+    */
+
+    private static int getTileBytes(int dim) {
+        return ((dim * dim * TILE_BITS) + (Byte.SIZE - 1)) / Byte.SIZE;
+    }
+
+    private static int getRecordBytes(int dim, boolean hasAnswers, int numWords) {
+        int answerBytes = hasAnswers ? ((numWords + (Byte.SIZE - 1)) / Byte.SIZE) : 0;
+        return BoardCorpus.getTileBytes(dim) + (2 * Integer.BYTES) + answerBytes;
+    }
+
+    /*
+    *                                                Getters
+    *
+    *   Input:   board - the index of a board in the corpus, from 0 to getNumBoards() - 1.
+    */
+
+    int getDim() {
+        return _dim;
+    }
+
+    long getNumBoards() {
+        return _numBoards;
+    }
+
+    boolean hasAnswers() {
+        return _hasAnswers;
+    }
+
+    int getWordCount(long board) {
+        return this.getSegment(board).getInt(this.getOffset(board) + _tileBytes);
+    }
+
+    int getMaxScore(long board) {
+        return this.getSegment(board).getInt(this.getOffset(board) + _tileBytes + Integer.BYTES);
+    }
+
+    /*
+    *       The getBoard() method unpacks the tiles of a board.
+    *
+    *   Input:   board - the index of the board.
+    *   Output:  a new PackedBoard.
+    */
+
+    PackedBoard getBoard(long board) {
+        MappedByteBuffer segment = this.getSegment(board);
+        int offset = this.getOffset(board);
+        byte[] letters = new byte[_dim * _dim];
+        for (int cell = 0; cell < letters.length; cell++) {
+            int bit = cell * TILE_BITS;
+            int index = offset + (bit / Byte.SIZE);
+            int bits = segment.get(index) & 0xff;
+            if (((bit % Byte.SIZE) + TILE_BITS) > Byte.SIZE) {
+                bits |= (segment.get(index + 1) & 0xff) << Byte.SIZE;
+            }
+            letters[cell] = (byte) ((bits >>> (bit % Byte.SIZE)) & TILE_MASK);
+        }
+        return new PackedBoard(_dim, letters);
+    }
+
+    /*
+    *       The containsWord() method checks the answer bitmap of a board for a word.
+    *
+    *   Input:   board - the index of the board.
+    *            word - the word to look up.
+    *   Output:  true if the word is on the board.
+    *   Error:   IllegalStateException if the corpus does not hold answers.
+    */
+
+    boolean containsWord(long board, String word) {
+        if (!_hasAnswers) {
+            throw new IllegalStateException("This corpus does not hold answers");
+        }
+        int id = _trie.getWordId(word);
+        if (id == Lexicon.NO_WORD) {
+            return false;
+        }
+        int index = this.getOffset(board) + _tileBytes + (2 * Integer.BYTES) + (id / Byte.SIZE);
+        return (this.getSegment(board).get(index) & (1 << (id % Byte.SIZE))) != 0;
+    }
+
+    private MappedByteBuffer getSegment(long board) {
+        if ((board < 0) || (board >= _numBoards)) {
+            throw new IndexOutOfBoundsException("Board " + board + " of " + _numBoards);
+        }
+        return _segments[(int) (board / _recordsPerSegment)];
+    }
+
+    private int getOffset(long board) {
+        return (int) (board % _recordsPerSegment) * _recordBytes;
+    }
+
+    /**
+     * Appender Class
+     * <p>
+     * The Appender class adds boards to the end of a corpus file through a small buffer, so writing a corpus takes
+     * the same memory no matter how many boards it holds. If the file already holds boards, the new boards are added
+     * after them (over a partly written last record, if the last Appender crashed); otherwise a new corpus is
+     * started. The number of boards in the header is updated every time the buffered boards are written, by flush()
+     * or close() or because the buffer is full.
+     **/
+
+    static class Appender implements Closeable {
+        private static final int BUFFER_BYTES = 1 << 16;
+
+        private final FileChannel _channel;
+        private final ByteBuffer _buffer;
+        private final int _dim;
+        private final int _tileBytes;
+        private final int _recordBytes;
+        private final int _numWords;
+        private final Lexicon _trie;
+        private long _numBoards;
+
+        /*
+        *       The Appender() constructor opens a corpus file for appending, creating it if it does not exist or is
+        *   empty.
+        *
+        *   Input:   path - the corpus file.
+        *            dim - the dimension of the boards.
+        *            trie - the dictionary the boards are solved with, or null to leave the answers out.
+        *   Output:  nothing.
+        *   Error:   IOException if the file cannot be opened, or holds a corpus with another dimension or layout.
+        */
+
+        Appender(Path path, int dim, Lexicon trie) throws IOException {
+            _channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            _dim = dim;
+            _trie = trie;
+            _numWords = (trie == null) ? 0 : trie.getNumWords();
+            _tileBytes = BoardCorpus.getTileBytes(dim);
+            _recordBytes = BoardCorpus.getRecordBytes(dim, trie != null, _numWords);
+            _buffer = ByteBuffer.allocateDirect(Math.max(BUFFER_BYTES, _recordBytes)).order(ByteOrder.LITTLE_ENDIAN);
+
+            try {
+                if (_channel.size() == 0) {
+                    _numBoards = 0;
+                    this.writeHeader();
+                } else {
+                    ByteBuffer header = BoardCorpus.readHeader(_channel, path);
+                    if ((header.getInt(8) != dim) || (header.getInt(16) != _numWords)
+                            || (header.getInt(20) != _recordBytes)) {
+                        throw new IOException(path + " holds boards of another dimension or layout");
+                    }
+                    _numBoards = header.getLong(24);
+                    _channel.truncate(HEADER_BYTES + (_numBoards * _recordBytes));
+                }
+                _channel.position(HEADER_BYTES + (_numBoards * _recordBytes));
+            } catch (IOException ex) {
+                _channel.close();
+                throw ex;
+            }
+        }
+
+        /*
+        *       The add() method appends a solved board to the corpus.
+        *
+        *   Input:   answers - the AnswerSet of the board, which holds the board itself.
+        *   Output:  the index of the board in the corpus.
+        *   Error:   IllegalArgumentException if the board has the wrong dimension, or IOException if writing fails.
+        */
+
+        long add(AnswerSet answers) throws IOException {
+            PackedBoard board = answers.getBoard();
+            if (board.getDim() != _dim) {
+                throw new IllegalArgumentException("Expected a " + _dim + "x" + _dim + " board but got a "
+                        + board.getDim() + "x" + board.getDim() + " board");
+            }
+            if (_buffer.remaining() < _recordBytes) {
+                this.flush();
+            }
+
+            int start = _buffer.position();
+            for (int i = 0; i < _recordBytes; i++) {
+                _buffer.put(start + i, (byte) 0);
+            }
+            for (int cell = 0; cell < board.getNumCells(); cell++) {
+                int bit = cell * TILE_BITS;
+                int index = start + (bit / Byte.SIZE);
+                int bits = board.getLetter(cell) << (bit % Byte.SIZE);
+                _buffer.put(index, (byte) (_buffer.get(index) | bits));
+                if ((bits >>> Byte.SIZE) != 0) {
+                    _buffer.put(index + 1, (byte) (_buffer.get(index + 1) | (bits >>> Byte.SIZE)));
+                }
+            }
+            _buffer.putInt(start + _tileBytes, answers.getNumScoringWords());
+            _buffer.putInt(start + _tileBytes + Integer.BYTES, answers.getMaxScore());
+            if (_trie != null) {
+                int bitmap = start + _tileBytes + (2 * Integer.BYTES);
+                for (String word : answers.getWords()) {
+                    int id = _trie.getWordId(word);
+                    int index = bitmap + (id / Byte.SIZE);
+                    _buffer.put(index, (byte) (_buffer.get(index) | (1 << (id % Byte.SIZE))));
+                }
+            }
+            _buffer.position(start + _recordBytes);
+
+            long id = _numBoards;
+            _numBoards++;
+            return id;
+        }
+
+        /*
+        *       The close() method flushes the Appender and closes the file.
+        *
+        *   Input:   nothing.
+        *   Output:  nothing.
+        *   Error:   IOException if writing fails.
+        */
+
+        public void close() throws IOException {
+            try {
+                this.flush();
+            } finally {
+                _channel.close();
+            }
+        }
+
+        /*
+        *       The flush() method writes the buffered boards to the file, then updates the number of boards in the
+        *   header. The boards are written first, so the header never counts boards that are not in the file.
+        *
+        *   Input:   nothing.
+        *   Output:  nothing.
+        *   Error:   IOException if writing fails.
+        */
+
+        void flush() throws IOException {
+            _buffer.flip();
+            while (_buffer.hasRemaining()) {
+                _channel.write(_buffer);
+            }
+            _buffer.clear();
+            this.writeHeader();
+        }
+
+        private void writeHeader() throws IOException {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(MAGIC);
+            header.putInt(VERSION);
+            header.putInt(_dim);
+            header.putInt((_trie != null) ? FLAG_ANSWERS : 0);
+            header.putInt(_numWords);
+            header.putInt(_recordBytes);
+            header.putLong(_numBoards);
+            header.flip();
+            while (header.hasRemaining()) {
+                _channel.write(header, header.position());
+            }
+        }
+    }
+}
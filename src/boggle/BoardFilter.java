@@ -0,0 +1,125 @@
+package boggle;
+
+/**
+ * BoardFilter Class
+ * <p>
+ * The BoardFilter class makes sure that players are only served boards that are worth playing. Some rolls of the dice
+ * leave a board with hardly any words on it, so the BoardFilter solves every board the BoardGenerator rolls and only
+ * accepts it if both the number of scoring words on it (words of three or more letters, as short words are worth no
+ * points) and the maximum achievable score (the sum of Round.pointsFor over every word) are inside a configurable
+ * range; otherwise it rolls again. The accepted board is returned as its
+ * AnswerSet, which holds the board itself, so the Round it is played in does not have to solve it a second time.
+ * <p>
+ * Rolling a board takes well under a microsecond and solving it a few tens of microseconds, so as long as the range
+ * accepts a reasonable share of the boards, filtering is fast enough to be done every time a round is started. The
+ * default range, which can be changed with the "boggle.board.*" system properties, accepts every board.
+ * <p>
+ * A BoardFilter uses a single BoardGenerator and is not thread safe.
+ **/
+
+class BoardFilter {
+    static final String MIN_WORDS_PROPERTY = "boggle.board.minWords";
+    static final String MAX_WORDS_PROPERTY = "boggle.board.maxWords";
+    static final String MIN_SCORE_PROPERTY = "boggle.board.minScore";
+    static final String MAX_SCORE_PROPERTY = "boggle.board.maxScore";
+    static final int MAX_ATTEMPTS = 10000;
+
+    private final BoardSolver _solver;
+    private final BoardGenerator _generator;
+    private final int _minWords;
+    private final int _maxWords;
+    private final int _minScore;
+    private final int _maxScore;
+    private long _numAttempts;
+    private long _numAccepted;
+
+    /*
+    *       The BoardFilter() constructor creates a filter that accepts boards with between minWords and maxWords
+    *   scoring words, and a maximum score between minScore and maxScore (all inclusive).
+    *
+    *   Input:   trie - the dictionary the boards are solved with.
+    *            generator - the BoardGenerator that rolls the boards.
+    *            minWords, maxWords - the range of the number of scoring words on an accepted board.
+    *            minScore, maxScore - the range of the maximum achievable score of an accepted board.
+    *   Output:  nothing.
+    *   Error:   IllegalArgumentException if a range is empty.
+    */
+
+    BoardFilter(Lexicon trie, BoardGenerator generator, int minWords, int maxWords, int minScore, int maxScore) {
+        if ((minWords > maxWords) || (minScore > maxScore)) {
+            throw new IllegalArgumentException("Empty range: " + minWords + "-" + maxWords + " words, "
+                    + minScore + "-" + maxScore + " points");
+        }
+        _solver = new BoardSolver(trie);
+        _generator = generator;
+        _minWords = minWords;
+        _maxWords = maxWords;
+        _minScore = minScore;
+        _maxScore = maxScore;
+        _numAttempts = 0;
+        _numAccepted = 0;
+    }
+
+    /*
+    *       The fromProperties() method creates a filter with a new BoardGenerator, using the range given by the
+    *   "boggle.board.minWords", "maxWords", "minScore" and "maxScore" system properties. Any that are not set leave
+    *   that end of the range open.
+    *
+    *   Input:   trie - the dictionary the boards are solved with.
+    *   Output:  the new BoardFilter.
+    */
+
+    static BoardFilter fromProperties(Lexicon trie) {
+        return new BoardFilter(trie, new BoardGenerator(),
+                Integer.getInteger(MIN_WORDS_PROPERTY, 0), Integer.getInteger(MAX_WORDS_PROPERTY, Integer.MAX_VALUE),
+                Integer.getInteger(MIN_SCORE_PROPERTY, 0), Integer.getInteger(MAX_SCORE_PROPERTY, Integer.MAX_VALUE));
+    }
+
+    /*
+    *       The nextBoard() method rolls and solves boards until one is accepted.
+    *
+    *   Input:   dim - the dimension of the board.
+    *   Output:  the AnswerSet of the accepted board, which holds the board itself.
+    *   Error:   IllegalStateException if no board was accepted after MAX_ATTEMPTS tries, which means the range is out
+    *            of reach for boards of that dimension.
+    */
+
+    AnswerSet nextBoard(int dim) {
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            _numAttempts++;
+            AnswerSet answers = _solver.solve(_generator.nextBoard(dim));
+            if (this.accepts(answers)) {
+                _numAccepted++;
+                return answers;
+            }
+        }
+        throw new IllegalStateException("No " + dim + "x" + dim + " board with " + _minWords + "-" + _maxWords
+                + " words and " + _minScore + "-" + _maxScore + " points in " + MAX_ATTEMPTS + " tries");
+    }
+
+    /*
+    *       The accepts() method checks if a solved board is inside the range.
+    *
+    *   Input:   answers - the AnswerSet of the board.
+    *   Output:  true if both the number of scoring words and the maximum score are inside the range.
+    */
+
+    boolean accepts(AnswerSet answers) {
+        int numWords = answers.getNumScoringWords();
+        int score = answers.getMaxScore();
+        return (numWords >= _minWords) && (numWords <= _maxWords) && (score >= _minScore) && (score <= _maxScore);
+    }
+
+    /*
+    *                                                Getters
+    *
+    */
+
+    long getNumAttempts() {
+        return _numAttempts;
+    }
+
+    long getNumAccepted() {
+        return _numAccepted;
+    }
+}
@@ -0,0 +1,243 @@
+package boggle;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * BoardGenerator Class
+ * <p>
+ * The BoardGenerator class rolls the Dice to generate the letters of boards, writing them straight into a byte[] as
+ * alphabet indices (the same layout as a PackedBoard, row * dim + col) rather than building Vertex objects. It follows
+ * the same rules as the physical game: the dice are put on the board in a random order, each die is rolled, and if it
+ * lands on a letter that already appears 4 times on the board it is rolled again (unless every face of the die is
+ * already on the board 4 times, in which case no roll could satisfy the rule and the letter is kept). The q faces of
+ * the dice are the two letter "Qu" tile (PackedBoard.QU), so no letters need to be changed to make a q usable and every
+ * board has exactly the letter distribution of the dice. Boards up to 6x6 are rolled with the matching set of Dice.
+ * There are no dice for larger boards (which are mostly used as load and benchmark inputs), so each of their cells gets
+ * a letter drawn from the faces of all of the Super Big Boggle dice put together, which keeps the letter frequencies of
+ * the dice; the 4 of a letter rule does not apply.
+ * <p>
+ * All of the randomness comes from a SplittableRandom, so a generator created with a seed always produces the same
+ * sequence of boards, which makes games, simulations and mined puzzles reproducible. A BoardGenerator reuses its
+ * scratch arrays and is not thread safe; split() creates an independent generator for another thread, so bulk
+ * generation scales across threads without sharing anything.
+ **/
+
+class BoardGenerator {
+    static final int MAX_LETTER_COUNT = 4;
+
+    private static final byte[][] BOGGLE_FACES = BoardGenerator.toFaces(Dice.BOGGLE_DICE);
+    private static final byte[][] BIG_BOGGLE_FACES = BoardGenerator.toFaces(Dice.BIG_BOGGLE_DICE);
+    private static final byte[][] SUPER_BIG_BOGGLE_FACES = BoardGenerator.toFaces(Dice.SUPER_BIG_BOGGLE_DICE);
+    private static final byte[] LETTER_FREQUENCIES = BoardGenerator.toFrequencies(SUPER_BIG_BOGGLE_FACES);
+
+    private final SplittableRandom _random;
+    private final int[] _order;
+    private final int[] _counts;
+
+    /*
+    *       The BoardGenerator() constructors create a generator from an unpredictable seed, from the inputted seed
+    *   (so that the same boards are generated every time), or from an existing SplittableRandom.
+    *
+    *   Input:   seed - the seed of the random number generator, or random - the random number generator to use.
+    *   Output:  nothing.
+    */
+
+    BoardGenerator() {
+        this(new SplittableRandom());
+    }
+
+    BoardGenerator(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    BoardGenerator(SplittableRandom random) {
+        _random = random;
+        _order = new int[SUPER_BIG_BOGGLE_FACES.length];
+        _counts = new int[PackedBoard.NUM_TILES];
+    }
+
+    /*
+    *       The toFaces() method converts the letters on each die into alphabet indices, with q as the Qu tile.
+    *
+    *   Input:   dice - the letters on each die.
+    *   Output:  the alphabet index of each face of each die.
+    */
+
+    private static byte[][] toFaces(String[] dice) {
+        byte[][] faces = new byte[dice.length][Dice.NUM_FACES];
+        for (int die = 0; die < dice.length; die++) {
+            for (int face = 0; face < Dice.NUM_FACES; face++) {
+                char letter = dice[die].charAt(face);
+                faces[die][face] = (letter == 'q') ? PackedBoard.QU : (byte) (letter - 'a');
+            }
+        }
+        return faces;
+    }
+
+    /*
+    *       The toFrequencies() method puts the faces of every die in one array, so that drawing a random entry picks
+    *   each letter as often as it appears on the dice.
+    *
+    *   Input:   faces - the alphabet index of each face of each die.
+    *   Output:  the alphabet index of every face.
+    */
+
+    private static byte[] toFrequencies(byte[][] faces) {
+        byte[] letters = new byte[faces.length * Dice.NUM_FACES];
+        for (int die = 0; die < faces.length; die++) {
+            System.arraycopy(faces[die], 0, letters, die * Dice.NUM_FACES, Dice.NUM_FACES);
+        }
+        return letters;
+    }
+
+    /*
+    *       The getFaces() method returns the faces of the set of Dice used for boards of the inputted dimension.
+    *
+    *   Input:   dim - the dimension of the board.
+    *   Output:  the alphabet index of each face of each die, or null if there are no dice for boards that large.
+    */
+
+    private static byte[][] getFaces(int dim) {
+        String[] dice = Dice.getDice(dim);
+        if (dice == Dice.BOGGLE_DICE) {
+            return BOGGLE_FACES;
+        }
+        if (dice == Dice.BIG_BOGGLE_DICE) {
+            return BIG_BOGGLE_FACES;
+        }
+        if (dice == Dice.SUPER_BIG_BOGGLE_DICE) {
+            return SUPER_BIG_BOGGLE_FACES;
+        }
+        return null;
+    }
+
+    /*
+    *       The split() method creates a new generator whose boards are independent of this one's, for use on
+    *   another thread. Splitting a seeded generator gives a seeded (reproducible) generator.
+    *
+    *   Input:   nothing.
+    *   Output:  the new BoardGenerator.
+    */
+
+    BoardGenerator split() {
+        return new BoardGenerator(_random.split());
+    }
+
+    /*
+    *       The nextBoard() and nextLetters() methods generate a single board.
+    *
+    *   Input:   dim - the dimension of the board.
+    *   Output:  the board as a PackedBoard, or its letters as alphabet indices (row * dim + col).
+    */
+
+    PackedBoard nextBoard(int dim) {
+        return new PackedBoard(dim, this.nextLetters(dim));
+    }
+
+    byte[] nextLetters(int dim) {
+        byte[] letters = new byte[dim * dim];
+        this.generate(dim, letters, 0);
+        return letters;
+    }
+
+    /*
+    *       The nextBoards() method generates many boards into one array, one after another, without allocating
+    *   anything.
+    *
+    *   Input:   dim - the dimension of the boards.
+    *            out - the array the boards are written to.
+    *            count - the number of boards to generate (board i starts at out[i * dim * dim]).
+    *   Output:  nothing.
+    */
+
+    void nextBoards(int dim, byte[] out, int count) {
+        int numCells = dim * dim;
+        for (int i = 0; i < count; i++) {
+            this.generate(dim, out, i * numCells);
+        }
+    }
+
+    /*
+    *       The generate() method fills a board with letters, rolling the Dice for boards up to 6x6 and drawing from
+    *   the letter frequencies of the dice for larger boards.
+    *
+    *   Input:   dim - the dimension of the board.
+    *            out - the array the board is written to.
+    *            offset - the index in out of the board's first cell.
+    *   Output:  nothing.
+    *   Error:   IllegalArgumentException if the dimension is not positive.
+    */
+
+    void generate(int dim, byte[] out, int offset) {
+        if (dim < 1) {
+            throw new IllegalArgumentException("Boards must be at least 1x1, not " + dim + "x" + dim);
+        }
+        byte[][] dice = BoardGenerator.getFaces(dim);
+        if (dice != null) {
+            this.rollDice(dice, dim, out, offset);
+        } else {
+            for (int cell = 0; cell < (dim * dim); cell++) {
+                out[offset + cell] = LETTER_FREQUENCIES[_random.nextInt(LETTER_FREQUENCIES.length)];
+            }
+        }
+    }
+
+    /*
+    *       The rollDice() method places a randomly chosen die on each cell (going down each column in turn, like
+    *   the GameBoard) and rolls it under the "max 4 of a letter" rule.
+    *
+    *   Input:   dice - the alphabet index of each face of each die (at least one die per cell).
+    *            dim - the dimension of the board.
+    *            out - the array the board is written to.
+    *            offset - the index in out of the board's first cell.
+    *   Output:  nothing.
+    */
+
+    private void rollDice(byte[][] dice, int dim, byte[] out, int offset) {
+        for (int i = 0; i < dice.length; i++) {
+            _order[i] = i;
+        }
+        Arrays.fill(_counts, 0);
+
+        int drawn = 0;
+        for (int col = 0; col < dim; col++) {
+            for (int row = 0; row < dim; row++) {
+                //Draw one of the remaining dice at random.
+                int pick = drawn + _random.nextInt(dice.length - drawn);
+                int die = _order[pick];
+                _order[pick] = _order[drawn];
+                _order[drawn] = die;
+                drawn++;
+
+                byte letter = this.roll(dice[die]);
+                _counts[letter]++;
+                out[offset + (row * dim) + col] = letter;
+            }
+        }
+    }
+
+    /*
+    *       The roll() method rolls a die, rolling it again while it lands on a letter that is already on the board
+    *   MAX_LETTER_COUNT times, as long as at least one of its faces is not.
+    *
+    *   Input:   faces - the alphabet index of each face of the die.
+    *   Output:  the letter facing up.
+    */
+
+    private byte roll(byte[] faces) {
+        byte letter = faces[_random.nextInt(Dice.NUM_FACES)];
+        if (_counts[letter] < MAX_LETTER_COUNT) {
+            return letter;
+        }
+
+        boolean canReroll = false;
+        for (byte face : faces) {
+            canReroll |= (_counts[face] < MAX_LETTER_COUNT);
+        }
+        while (canReroll && (_counts[letter] >= MAX_LETTER_COUNT)) {
+            letter = faces[_random.nextInt(Dice.NUM_FACES)];
+        }
+        return letter;
+    }
+}
@@ -0,0 +1,417 @@
+package boggle;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * BoardIndex Class
+ * <p>
+ * The BoardIndex class is the inverse of the BoardSolver: given a word, it finds the boards of a corpus that contain
+ * it. It is an inverted index from dictionary word IDs (see Lexicon) to posting lists of board IDs, where the boards
+ * are numbered in the order they were added. Each posting list is sorted, so it is stored as the gaps between
+ * consecutive board IDs, each written as a varint (7 bits per byte, with the high bit set on every byte but the last),
+ * which takes one or two bytes per posting for all but the rarest words. The index also stores the letters and the
+ * number of scoring words of every board, so a query such as "boards containing quixotic with at least 200 words" is
+ * answered by decoding the posting lists of the words, intersecting them, and filtering them by word count.
+ * <p>
+ * Indexes are built with a BoardIndex.Builder and written to a file, which is then mapped into memory with
+ * FileChannel.map() and read in place, like a compiled DictionaryFile. All values are little-endian ints unless noted
+ * otherwise. The file has six sections:
+ * <pre>
+ *   header         MAGIC, VERSION, dimension of the boards, number of boards (b), number of words in the dictionary (w)
+ *   postingStart   w + 1 ints: the postings of word i are bytes postingStart[i] up to postingStart[i + 1] of postings
+ *   postingCounts  w ints: the number of boards containing each word
+ *   wordCounts     b ints: the number of scoring words on each board
+ *   letters        b * dim * dim bytes: the alphabet index of the tile on each cell of each board
+ *   postings       the varint gaps of every posting list, one list after another
+ * </pre>
+ * The word IDs only mean something for the dictionary the index was built with, so mapping an index with a dictionary
+ * of a different size is rejected.
+ **/
+
+class BoardIndex {
+    static final int MAGIC = 0x42474958;
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 5 * Integer.BYTES;
+
+    private final MappedByteBuffer _buffer;
+    private final Lexicon _trie;
+    private final int _dim;
+    private final int _numBoards;
+    private final int _numWords;
+    private final int _countsOffset;
+    private final int _wordCountsOffset;
+    private final int _lettersOffset;
+    private final int _postingsOffset;
+
+    /*
+    *       The BoardIndex() constructor stores the mapped file and computes where each section starts. It is only
+    *   called by map(), which checks the header first.
+    *
+    *   Input:   buffer - the mapped index file (little-endian).
+    *            trie - the dictionary the index was built with.
+    *   Output:  nothing.
+    */
+
+    private BoardIndex(MappedByteBuffer buffer, Lexicon trie) {
+        _buffer = buffer;
+        _trie = trie;
+        _dim = buffer.getInt(8);
+        _numBoards = buffer.getInt(12);
+        _numWords = buffer.getInt(16);
+        _countsOffset = HEADER_BYTES + ((_numWords + 1) * Integer.BYTES);
+        _wordCountsOffset = _countsOffset + (_numWords * Integer.BYTES);
+        _lettersOffset = _wordCountsOffset + (_numBoards * Integer.BYTES);
+        _postingsOffset = _lettersOffset + (_numBoards * _dim * _dim);
+    }
+
+    /*
+    *       The map() method maps an index file into memory. Nothing is copied onto the heap.
+    *
+    *   Input:   path - the index file.
+    *            trie - the dictionary the index was built with, used to look up the IDs of queried words.
+    *   Output:  a BoardIndex over the file.
+    *   Error:   IOException if the file cannot be read, is not an index, or was built with another dictionary.
+    */
+
+    static BoardIndex map(Path path, Lexicon trie) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+            if ((buffer.limit() < HEADER_BYTES) || (buffer.getInt(0) != MAGIC)) {
+                throw new IOException(path + " is not a board index");
+            }
+            if (buffer.getInt(4) != VERSION) {
+                throw new IOException(path + " has unsupported version " + buffer.getInt(4));
+            }
+            if (buffer.getInt(16) != trie.getNumWords()) {
+                throw new IOException(path + " was built with a dictionary of " + buffer.getInt(16) + " words, not "
+                        + trie.getNumWords());
+            }
+
+            BoardIndex index = new BoardIndex(buffer, trie);
+            int postingsEnd = buffer.getInt(HEADER_BYTES + (index._numWords * Integer.BYTES));
+            if (buffer.limit() != ((long) index._postingsOffset + postingsEnd)) {
+                throw new IOException(path + " is truncated or corrupt");
+            }
+            return index;
+        }
+    }
+
+    /*
+    *       The find() method returns the boards that contain every one of the inputted words and have at least
+    *   minWords scoring words on them. The posting list of the rarest word is decoded first, and the lists of the other
+    *   words are merged into it one at a time, so the work done is bounded by the lengths of the lists.
+    *
+    *   Input:   words - the words every board must contain.
+    *            minWords - the minimum number of scoring words on a board.
+    *   Output:  the IDs of the matching boards, in increasing order.
+    */
+
+    int[] find(String[] words, int minWords) {
+        int[] ids = new int[words.length];
+        for (int i = 0; i < words.length; i++) {
+            ids[i] = _trie.getWordId(words[i]);
+            if (ids[i] == Lexicon.NO_WORD) {
+                return new int[0];
+            }
+        }
+
+        //Sort the word IDs by the length of their posting lists, shortest first.
+        long[] bySize = new long[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            bySize[i] = ((long) this.getNumBoardsWith(ids[i]) << Integer.SIZE) | ids[i];
+        }
+        Arrays.sort(bySize);
+
+        int[] boards = null;
+        int numBoards = 0;
+        for (long entry : bySize) {
+            int id = (int) entry;
+            if (boards == null) {
+                boards = this.decode(id);
+                numBoards = boards.length;
+            } else {
+                numBoards = this.intersect(id, boards, numBoards);
+            }
+        }
+        if (boards == null) {
+            return new int[0];
+        }
+
+        int numMatches = 0;
+        for (int i = 0; i < numBoards; i++) {
+            if (this.getWordCount(boards[i]) >= minWords) {
+                boards[numMatches] = boards[i];
+                numMatches++;
+            }
+        }
+        return Arrays.copyOf(boards, numMatches);
+    }
+
+    /*
+    *       The decode() method decodes the whole posting list of a word.
+    *
+    *   Input:   id - the word ID.
+    *   Output:  the IDs of the boards containing the word, in increasing order.
+    */
+
+    private int[] decode(int id) {
+        int[] boards = new int[this.getNumBoardsWith(id)];
+        int position = _postingsOffset + this.getPostingStart(id);
+        int board = 0;
+        for (int i = 0; i < boards.length; i++) {
+            int gap = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = _buffer.get(position);
+                position++;
+                gap |= (b & 0x7f) << shift;
+                shift += 7;
+            } while (b < 0);
+            board += gap;
+            boards[i] = board;
+        }
+        return boards;
+    }
+
+    /*
+    *       The intersect() method keeps the boards that are also in the posting list of a word, decoding the list as
+    *   it is merged with the boards.
+    *
+    *   Input:   id - the word ID.
+    *            boards - the boards found so far, in increasing order. The kept boards are moved to the front.
+    *            numBoards - the number of boards found so far.
+    *   Output:  the number of boards kept.
+    */
+
+    private int intersect(int id, int[] boards, int numBoards) {
+        int position = _postingsOffset + this.getPostingStart(id);
+        int end = _postingsOffset + this.getPostingStart(id + 1);
+        int board = 0;
+        int kept = 0;
+        int i = 0;
+        while ((position < end) && (i < numBoards)) {
+            int gap = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = _buffer.get(position);
+                position++;
+                gap |= (b & 0x7f) << shift;
+                shift += 7;
+            } while (b < 0);
+            board += gap;
+
+            while ((i < numBoards) && (boards[i] < board)) {
+                i++;
+            }
+            if ((i < numBoards) && (boards[i] == board)) {
+                boards[kept] = board;
+                kept++;
+                i++;
+            }
+        }
+        return kept;
+    }
+
+    /*
+    *                                                Getters
+    *
+    *   Input:   board - a board ID, or id - a word ID.
+    */
+
+    int getDim() {
+        return _dim;
+    }
+
+    int getNumBoards() {
+        return _numBoards;
+    }
+
+    int getWordCount(int board) {
+        return _buffer.getInt(_wordCountsOffset + (board * Integer.BYTES));
+    }
+
+    int getNumBoardsWith(int id) {
+        return _buffer.getInt(_countsOffset + (id * Integer.BYTES));
+    }
+
+    long getPostingBytes() {
+        return this.getPostingStart(_numWords);
+    }
+
+    PackedBoard getBoard(int board) {
+        int numCells = _dim * _dim;
+        byte[] letters = new byte[numCells];
+        for (int cell = 0; cell < numCells; cell++) {
+            letters[cell] = _buffer.get(_lettersOffset + (board * numCells) + cell);
+        }
+        return new PackedBoard(_dim, letters);
+    }
+
+    private int getPostingStart(int id) {
+        return _buffer.getInt(HEADER_BYTES + (id * Integer.BYTES));
+    }
+
+    /**
+     * Builder Class
+     * <p>
+     * The Builder class collects the boards of a corpus and their answers, encoding each posting list as the boards
+     * are added, and writes the index file. Boards are numbered from 0 in the order they are added.
+     **/
+
+    static class Builder {
+        private static final int INITIAL_LIST_BYTES = 8;
+
+        private final Lexicon _trie;
+        private final int _dim;
+        private final byte[][] _postings;
+        private final int[] _postingLength;
+        private final int[] _postingCount;
+        private final int[] _lastBoard;
+        private int[] _wordCounts;
+        private byte[] _letters;
+        private int _numBoards;
+
+        /*
+        *       The Builder() constructor creates an empty index of boards of one dimension.
+        *
+        *   Input:   trie - the dictionary the boards are solved with, which gives the word IDs.
+        *            dim - the dimension of the boards.
+        *   Output:  nothing.
+        */
+
+        Builder(Lexicon trie, int dim) {
+            _trie = trie;
+            _dim = dim;
+            _postings = new byte[trie.getNumWords()][];
+            _postingLength = new int[trie.getNumWords()];
+            _postingCount = new int[trie.getNumWords()];
+            _lastBoard = new int[trie.getNumWords()];
+            _wordCounts = new int[1024];
+            _letters = new byte[1024 * dim * dim];
+            _numBoards = 0;
+        }
+
+        /*
+        *       The add() method adds a solved board to the index.
+        *
+        *   Input:   answers - the AnswerSet of the board, which holds the board itself.
+        *   Output:  the ID of the board.
+        *   Error:   IllegalArgumentException if the board has the wrong dimension.
+        */
+
+        int add(AnswerSet answers) {
+            PackedBoard board = answers.getBoard();
+            if (board.getDim() != _dim) {
+                throw new IllegalArgumentException("Expected a " + _dim + "x" + _dim + " board but got a "
+                        + board.getDim() + "x" + board.getDim() + " board");
+            }
+            int id = _numBoards;
+            int numCells = _dim * _dim;
+            if (id == _wordCounts.length) {
+                _wordCounts = Arrays.copyOf(_wordCounts, id * 2);
+                _letters = Arrays.copyOf(_letters, id * 2 * numCells);
+            }
+            _wordCounts[id] = answers.getNumScoringWords();
+            for (int cell = 0; cell < numCells; cell++) {
+                _letters[(id * numCells) + cell] = (byte) board.getLetter(cell);
+            }
+
+            for (String word : answers.getWords()) {
+                int wordId = _trie.getWordId(word);
+                this.append(wordId, id - _lastBoard[wordId]);
+                _lastBoard[wordId] = id;
+                _postingCount[wordId]++;
+            }
+            _numBoards++;
+            return id;
+        }
+
+        /*
+        *       The append() method adds a gap to the end of a word's posting list as a varint.
+        *
+        *   Input:   wordId - the word ID.
+        *            gap - the difference between this board ID and the previous one in the list.
+        *   Output:  nothing.
+        */
+
+        private void append(int wordId, int gap) {
+            byte[] list = _postings[wordId];
+            int length = _postingLength[wordId];
+            if (list == null) {
+                list = new byte[INITIAL_LIST_BYTES];
+            } else if ((length + 5) > list.length) {
+                list = Arrays.copyOf(list, list.length * 2);
+            }
+            while (gap >= 0x80) {
+                list[length] = (byte) ((gap & 0x7f) | 0x80);
+                length++;
+                gap >>>= 7;
+            }
+            list[length] = (byte) gap;
+            _postings[wordId] = list;
+            _postingLength[wordId] = length + 1;
+        }
+
+        /*
+        *       The write() method writes the index to a file, replacing any existing file.
+        *
+        *   Input:   path - the file to write to.
+        *   Output:  nothing.
+        *   Error:   IOException if the file cannot be written, or the index is too large for a single mapped file.
+        */
+
+        void write(Path path) throws IOException {
+            int numWords = _postings.length;
+            int[] postingStart = new int[numWords + 1];
+            long postingBytes = 0;
+            for (int id = 0; id < numWords; id++) {
+                postingStart[id] = (int) postingBytes;
+                postingBytes += _postingLength[id];
+            }
+            long tableBytes = HEADER_BYTES + (((2L * numWords) + 1 + _numBoards) * Integer.BYTES)
+                    + ((long) _numBoards * _dim * _dim);
+            if ((tableBytes + postingBytes) > Integer.MAX_VALUE) {
+                throw new IOException("The index is too large for a single file");
+            }
+            postingStart[numWords] = (int) postingBytes;
+
+            ByteBuffer tables = ByteBuffer.allocate((int) tableBytes).order(ByteOrder.LITTLE_ENDIAN);
+            tables.putInt(MAGIC);
+            tables.putInt(VERSION);
+            tables.putInt(_dim);
+            tables.putInt(_numBoards);
+            tables.putInt(numWords);
+            tables.asIntBuffer().put(postingStart).put(_postingCount).put(_wordCounts, 0, _numBoards);
+            tables.position(HEADER_BYTES + ((numWords + 1 + numWords + _numBoards) * Integer.BYTES));
+            tables.put(_letters, 0, _numBoards * _dim * _dim);
+            tables.flip();
+
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                Builder.writeFully(channel, tables);
+                for (int id = 0; id < numWords; id++) {
+                    if (_postingLength[id] > 0) {
+                        Builder.writeFully(channel, ByteBuffer.wrap(_postings[id], 0, _postingLength[id]));
+                    }
+                }
+            }
+        }
+
+        private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+}
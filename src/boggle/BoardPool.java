@@ -0,0 +1,263 @@
+package boggle;
+
+import java.util.HashMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * BoardPool Class
+ * <p>
+ * The BoardPool class keeps a bounded queue of boards of one dimension that were rolled and solved ahead of time, so
+ * that starting a game only has to take a board off the queue instead of rolling and solving one on the JavaFX
+ * thread. Each board is stored as its AnswerSet, which holds both the letters and every word on the board. Background
+ * (daemon) worker threads each get boards from their own BoardFilter, so only boards inside the configured range are
+ * pooled, and put them on the queue, blocking while it is full; taking a board wakes a worker up to replace it.
+ * <p>
+ * The pool keeps metrics on how well it keeps up: its depth, the rate at which the workers refill it, and how often
+ * and for how long take() had to wait because the pool was empty. The Round gets its boards from the shared pools
+ * returned by get(), one per dimension, which use the shared dictionary from the DictionaryService.
+ * <p>
+ * If a worker fails (for example because its BoardFilter cannot find a board inside the configured range), the
+ * exception is kept and the pool is closed, so that take() throws it, as the cause of an IllegalStateException, instead
+ * of waiting for a board that will never come.
+ **/
+
+class BoardPool {
+    static final int DEFAULT_CAPACITY = 16;
+    static final int DEFAULT_WORKERS = 1;
+
+    private static final HashMap<Integer, BoardPool> POOLS = new HashMap<>();
+    private static final long POLL_MILLIS = 100;
+
+    private final int _dim;
+    private final ArrayBlockingQueue<AnswerSet> _boards;
+    private final Thread[] _workers;
+    private final AtomicLong _numGenerated;
+    private final AtomicLong _refillNanos;
+    private final AtomicLong _numTaken;
+    private final AtomicLong _numWaits;
+    private final AtomicLong _waitNanos;
+    private final AtomicLong _maxWaitNanos;
+    private volatile RuntimeException _failure;
+    private volatile boolean _closed;
+
+    /*
+    *       The BoardPool() constructor creates an empty pool and starts its workers, which fill it in the background.
+    *
+    *   Input:   trie - the dictionary the boards are solved with.
+    *            dim - the dimension of the boards.
+    *            capacity - the maximum number of boards kept in the pool.
+    *            numWorkers - the number of worker threads refilling the pool.
+    *   Output:  nothing.
+    */
+
+    BoardPool(Lexicon trie, int dim, int capacity, int numWorkers) {
+        _dim = dim;
+        _boards = new ArrayBlockingQueue<>(capacity);
+        _numGenerated = new AtomicLong();
+        _refillNanos = new AtomicLong();
+        _numTaken = new AtomicLong();
+        _numWaits = new AtomicLong();
+        _waitNanos = new AtomicLong();
+        _maxWaitNanos = new AtomicLong();
+        _closed = false;
+
+        _workers = new Thread[numWorkers];
+        for (int i = 0; i < numWorkers; i++) {
+            _workers[i] = new Thread(new Refill(BoardFilter.fromProperties(trie)),
+                    "board-pool-" + dim + "x" + dim + "-" + i);
+            _workers[i].setDaemon(true);
+            _workers[i].start();
+        }
+    }
+
+    /*
+    *       The get() method returns the shared pool for boards of the inputted dimension, creating it (and loading the
+    *   dictionary) the first time it is needed.
+    *
+    *   Input:   dim - the dimension of the boards.
+    *   Output:  the shared BoardPool.
+    */
+
+    static synchronized BoardPool get(int dim) {
+        BoardPool pool = POOLS.get(dim);
+        if (pool == null) {
+            pool = new BoardPool(DictionaryService.get(), dim, DEFAULT_CAPACITY, DEFAULT_WORKERS);
+            POOLS.put(dim, pool);
+        }
+        return pool;
+    }
+
+    /*
+    *       The warmUp() method loads the dictionary and starts filling the shared 4x4 and 5x5 pools on a background
+    *   (daemon) thread, so that the first game does not have to wait for either.
+    *
+    *   Input:   nothing.
+    *   Output:  nothing.
+    */
+
+    static void warmUp() {
+        Thread loader = new Thread(new WarmUp(), "board-pool-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    /*
+    *       The take() method removes a board from the pool. If the pool is empty, it waits for a worker to add one,
+    *   and the wait is recorded in the metrics. An interrupt does not stop the wait, but is passed on to the caller.
+    *
+    *   Input:   nothing.
+    *   Output:  the AnswerSet of the board, which holds the board itself.
+    *   Error:   IllegalStateException if the pool is closed and empty, caused by the worker's exception if the pool was
+    *            closed because a worker failed.
+    */
+
+    AnswerSet take() {
+        _numTaken.incrementAndGet();
+        AnswerSet answers = _boards.poll();
+        if (answers != null) {
+            return answers;
+        }
+
+        _numWaits.incrementAndGet();
+        long start = System.nanoTime();
+        boolean interrupted = false;
+        while (answers == null) {
+            if (_closed) {
+                if (_failure != null) {
+                    throw new IllegalStateException("The " + _dim + "x" + _dim + " board pool failed", _failure);
+                }
+                throw new IllegalStateException("The " + _dim + "x" + _dim + " board pool is closed");
+            }
+            try {
+                answers = _boards.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException ex) {
+                interrupted = true;
+            }
+        }
+        long wait = System.nanoTime() - start;
+        _waitNanos.addAndGet(wait);
+        long max = _maxWaitNanos.get();
+        while ((wait > max) && !_maxWaitNanos.compareAndSet(max, wait)) {
+            max = _maxWaitNanos.get();
+        }
+
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        return answers;
+    }
+
+    /*
+    *       The close() method stops the workers. Boards already in the pool can still be taken.
+    *
+    *   Input:   nothing.
+    *   Output:  nothing.
+    */
+
+    void close() {
+        _closed = true;
+        for (Thread worker : _workers) {
+            worker.interrupt();
+        }
+    }
+
+    /*
+    *                                                Getters
+    *
+    *   The refill rate is the number of boards generated per second of work by each worker, not counting the time
+    *   spent waiting for room in the pool. The wait times are in milliseconds.
+    */
+
+    int getDim() {
+        return _dim;
+    }
+
+    int getDepth() {
+        return _boards.size();
+    }
+
+    int getCapacity() {
+        return _boards.size() + _boards.remainingCapacity();
+    }
+
+    int getNumWorkers() {
+        return _workers.length;
+    }
+
+    RuntimeException getFailure() {
+        return _failure;
+    }
+
+    long getNumGenerated() {
+        return _numGenerated.get();
+    }
+
+    double getRefillRate() {
+        long nanos = _refillNanos.get();
+        return (nanos == 0) ? 0 : (_numGenerated.get() * 1e9) / nanos;
+    }
+
+    long getNumTaken() {
+        return _numTaken.get();
+    }
+
+    long getNumWaits() {
+        return _numWaits.get();
+    }
+
+    double getAverageWaitMillis() {
+        long numWaits = _numWaits.get();
+        return (numWaits == 0) ? 0 : (_waitNanos.get() / 1e6) / numWaits;
+    }
+
+    double getMaxWaitMillis() {
+        return _maxWaitNanos.get() / 1e6;
+    }
+
+    /**
+     * Refill Class
+     * <p>
+     * The Refill class is run by each worker thread. It keeps getting boards from its BoardFilter and putting them in
+     * the pool until the pool is closed. If getting a board fails, it keeps the exception and closes the pool.
+     **/
+
+    private class Refill implements Runnable {
+        private final BoardFilter _filter;
+
+        Refill(BoardFilter filter) {
+            _filter = filter;
+        }
+
+        public void run() {
+            try {
+                while (!_closed) {
+                    long start = System.nanoTime();
+                    AnswerSet answers = _filter.nextBoard(_dim);
+                    _refillNanos.addAndGet(System.nanoTime() - start);
+                    _numGenerated.incrementAndGet();
+                    _boards.put(answers);
+                }
+            } catch (InterruptedException ex) {
+                //The pool was closed.
+            } catch (RuntimeException ex) {
+                _failure = ex;
+                BoardPool.this.close();
+            }
+        }
+    }
+
+    /**
+     * WarmUp Class
+     * <p>
+     * The WarmUp class is run by the background loader thread to create the shared 4x4 and 5x5 pools.
+     **/
+
+    private static class WarmUp implements Runnable {
+        public void run() {
+            BoardPool.get(4);
+            BoardPool.get(5);
+        }
+    }
+}
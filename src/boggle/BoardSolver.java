@@ -0,0 +1,259 @@
+package boggle;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * BoardSolver Class
+ * <p>
+ * The BoardSolver class finds every word in the dictionary that can be formed on a board. Instead of starting a new
+ * search from the root of the DictTrie for every candidate word, it walks the board and the trie together: each step
+ * from a cell to an unvisited neighbor is also a step from the current node to the child for the neighbor's letter. As
+ * soon as a prefix has no child in the trie, the whole branch of the board search is pruned. Stepping onto the two
+ * letter Qu tile follows both the q and the u edge at once, so words with qu in them cost no extra board step. The
+ * search only relies on the Lexicon interface, so it works the same way over a Dawg. The words that are found (along
+ * with the path of cells used to form them) are collected into an AnswerSet.
+ * <p>
+ * Boards are searched in their PackedBoard form. The cells used by the current path are tracked in a long bitmask (bit
+ * row * dim + col) that is passed down the search, rather than with a visited flag on each Vertex, so the search never
+ * changes the board. This means the searches from different starting cells are completely independent, and
+ * solveParallel() runs them as separate fork-join tasks and merges their results. Boards with more than MASK_CELLS
+ * cells do not fit in one long, so the search from each starting cell uses its own long[] bitmap instead, setting a
+ * cell's bit when the path enters it and clearing it when the path backs out.
+ **/
+
+class BoardSolver {
+    static final int MASK_CELLS = Long.SIZE;
+
+    private final Lexicon _trie;
+
+    /*
+    *       The BoardSolver() constructor stores the dictionary that boards will be solved against.
+    *
+    *   Input:   trie - the Lexicon (such as a DictTrie) containing every valid word.
+    *   Output:  nothing.
+    */
+
+    BoardSolver(Lexicon trie) {
+        _trie = trie;
+    }
+
+    /*
+    *       The solve() method starts a trie-guided search from every cell on the board, one after another, and
+    *   returns every word that was found. GameBoards are solved through their PackedBoard.
+    *
+    *   Input:   board - the GameBoard or PackedBoard to be solved.
+    *   Output:  an AnswerSet containing every word on the board and the path used to form it.
+    */
+
+    AnswerSet solve(GameBoard board) {
+        return this.solve(board.getPackedBoard());
+    }
+
+    AnswerSet solve(PackedBoard board) {
+        AnswerSet answers = new AnswerSet(board);
+
+        for (int cell = 0; cell < board.getNumCells(); cell++) {
+            this.solveFrom(board, cell, answers);
+        }
+        return answers;
+    }
+
+    /*
+    *       The solveParallel() method runs the search from each starting cell as its own task in the common
+    *   fork-join pool, then merges the words found by each task (in the same order solve() would find them).
+    *
+    *   Input:   board - the GameBoard or PackedBoard to be solved.
+    *   Output:  an AnswerSet containing every word on the board and the path used to form it.
+    */
+
+    AnswerSet solveParallel(GameBoard board) {
+        return this.solveParallel(board.getPackedBoard());
+    }
+
+    AnswerSet solveParallel(PackedBoard board) {
+        return ForkJoinPool.commonPool().invoke(new SolveTask(board, 0, board.getNumCells()));
+    }
+
+    /*
+    *       The solveFrom() method searches for every word that starts on a single cell, tracking the visited cells in
+    *   a long bitmask if the board has at most MASK_CELLS cells, and in a long[] bitmap otherwise.
+    *
+    *   Input:   board - the board being solved.
+    *            cell - the starting cell (row * dim + col).
+    *            answers - the AnswerSet the words are added to.
+    *   Output:  nothing.
+    */
+
+    private void solveFrom(PackedBoard board, int cell, AnswerSet answers) {
+        int node = this.step(Lexicon.ROOT, board, cell);
+
+        if (node != Lexicon.NO_NODE) {
+            int numCells = board.getNumCells();
+            int[] path = new int[numCells];
+            char[] letters = new char[2 * numCells];
+            if (numCells <= MASK_CELLS) {
+                this.solveHelper(board, cell, node, 0L, path, letters, 0, 0, answers);
+            } else {
+                long[] visited = new long[(numCells + (Long.SIZE - 1)) / Long.SIZE];
+                this.solveLargeHelper(board, cell, node, visited, path, letters, 0, 0, answers);
+            }
+        }
+    }
+
+    /*
+    *       The step() method follows the letters of the tile on a cell from a trie node. The Qu tile follows both the
+    *   q and the u edge in a single step.
+    *
+    *   Input:   node - the trie node to step from.
+    *            board - the board being solved.
+    *            cell - the cell being stepped onto.
+    *   Output:  the trie node for the prefix followed by the tile, or NO_NODE if there is none.
+    */
+
+    private int step(int node, PackedBoard board, int cell) {
+        int child = _trie.getChild(node, board.getChar(cell));
+        if ((child != Lexicon.NO_NODE) && (board.getLetter(cell) == PackedBoard.QU)) {
+            child = _trie.getChild(child, 'u');
+        }
+        return child;
+    }
+
+    /*
+    *       The addTile() method writes the letters of the tile on a cell into the letters of the current path.
+    *
+    *   Input:   board - the board being solved.
+    *            cell - the cell whose tile is added.
+    *            letters - the letters of the current path.
+    *            length - the number of letters before the tile.
+    *   Output:  the number of letters including the tile.
+    */
+
+    private int addTile(PackedBoard board, int cell, char[] letters, int length) {
+        letters[length] = board.getChar(cell);
+        if (board.getLetter(cell) == PackedBoard.QU) {
+            letters[length + 1] = 'u';
+            return length + 2;
+        }
+        return length + 1;
+    }
+
+    /*
+    *       The solveHelper() method adds the current cell to the path, records the word if the current node ends one,
+    *   then continues into every neighbor that is not already in the path and whose letter has a child in the trie.
+    *
+    *   Input:   board - the board being solved.
+    *            cell - the cell currently being visited.
+    *            node - the trie node corresponding to the tile on cell.
+    *            visited - a bitmask of the cells already in the path (not including cell).
+    *            path - the cells visited so far (row * dim + col).
+    *            letters - the letters on the cells in path, used to build the word when one is found.
+    *            depth - the number of cells in the path before cell.
+    *            length - the number of letters in the path before cell.
+    *            answers - the AnswerSet the words are added to.
+    *   Output:  nothing.
+    */
+
+    private void solveHelper(PackedBoard board, int cell, int node, long visited, int[] path, char[] letters,
+                             int depth, int length, AnswerSet answers) {
+        long mask = visited | (1L << cell);
+        path[depth] = cell;
+        int newLength = this.addTile(board, cell, letters, length);
+
+        if (_trie.isWord(node)) {
+            answers.add(new String(letters, 0, newLength), path, depth + 1);
+        }
+
+        int end = board.getNeighborEnd(cell);
+        for (int k = board.getNeighborStart(cell); k < end; k++) {
+            int neighbor = board.getNeighbor(k);
+            if ((mask & (1L << neighbor)) == 0) {
+                int child = this.step(node, board, neighbor);
+                if (child != Lexicon.NO_NODE) {
+                    this.solveHelper(board, neighbor, child, mask, path, letters, depth + 1, newLength, answers);
+                }
+            }
+        }
+    }
+
+    /*
+    *       The solveLargeHelper() method is the same search as solveHelper() for boards with more than MASK_CELLS
+    *   cells. The current cell's bit is set in the bitmap while its neighbors are searched and cleared afterwards, so
+    *   the bitmap always holds exactly the cells in the path.
+    *
+    *   Input:   board - the board being solved.
+    *            cell - the cell currently being visited.
+    *            node - the trie node corresponding to the tile on cell.
+    *            visited - a bitmap of the cells already in the path (not including cell), one bit per cell.
+    *            path - the cells visited so far (row * dim + col).
+    *            letters - the letters on the cells in path, used to build the word when one is found.
+    *            depth - the number of cells in the path before cell.
+    *            length - the number of letters in the path before cell.
+    *            answers - the AnswerSet the words are added to.
+    *   Output:  nothing.
+    */
+
+    private void solveLargeHelper(PackedBoard board, int cell, int node, long[] visited, int[] path, char[] letters,
+                                  int depth, int length, AnswerSet answers) {
+        visited[cell >>> 6] |= (1L << cell);
+        path[depth] = cell;
+        int newLength = this.addTile(board, cell, letters, length);
+
+        if (_trie.isWord(node)) {
+            answers.add(new String(letters, 0, newLength), path, depth + 1);
+        }
+
+        int end = board.getNeighborEnd(cell);
+        for (int k = board.getNeighborStart(cell); k < end; k++) {
+            int neighbor = board.getNeighbor(k);
+            if ((visited[neighbor >>> 6] & (1L << neighbor)) == 0) {
+                int child = this.step(node, board, neighbor);
+                if (child != Lexicon.NO_NODE) {
+                    this.solveLargeHelper(board, neighbor, child, visited, path, letters, depth + 1, newLength,
+                            answers);
+                }
+            }
+        }
+        visited[cell >>> 6] &= ~(1L << cell);
+    }
+
+    /**
+     * SolveTask Class
+     * <p>
+     * The SolveTask class is a fork-join task that solves the board from a range of starting cells. Ranges with
+     * more than one cell are split in half and solved in parallel; a single cell is solved directly into its own
+     * AnswerSet. The AnswerSets are merged left to right, so the first path found for each word is kept just like
+     * in solve().
+     **/
+
+    private class SolveTask extends RecursiveTask<AnswerSet> {
+        private static final long serialVersionUID = 1L;
+
+        private final PackedBoard _board;
+        private final int _from;
+        private final int _to;
+
+        SolveTask(PackedBoard board, int from, int to) {
+            _board = board;
+            _from = from;
+            _to = to;
+        }
+
+        @Override
+        protected AnswerSet compute() {
+            if ((_to - _from) == 1) {
+                AnswerSet answers = new AnswerSet(_board);
+                BoardSolver.this.solveFrom(_board, _from, answers);
+                return answers;
+            }
+
+            int mid = (_from + _to) >>> 1;
+            SolveTask left = new SolveTask(_board, _from, mid);
+            SolveTask right = new SolveTask(_board, mid, _to);
+            right.fork();
+            AnswerSet answers = left.compute();
+            answers.addAll(right.join());
+            return answers;
+        }
+    }
+}
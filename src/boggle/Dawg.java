@@ -0,0 +1,448 @@
+package boggle;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+
+/**
+ * Dawg Class
+ * <p>
+ * The Dawg class is a Dictionary represented by a Directed Acyclic Word Graph, or minimal acyclic automaton. Like the
+ * DictTrie, each path from the root spells a prefix of a word, but where the DictTrie only shares prefixes, the Dawg
+ * also shares suffixes: every group of nodes that accept exactly the same set of endings (such as the "-ing", "-ed",
+ * and "-s" at the end of thousands of words) is stored only once. This makes the Open English Word List several times
+ * smaller than the trie, small enough for most of it to stay in the CPU cache while a board is being solved.
+ * <p>
+ * The Dawg is built by the nested class Builder from words added in sorted order, using the incremental
+ * algorithm from Daciuk et al. ("Incremental Construction of Minimal Acyclic Finite-State Automata", 2000). Once it is
+ * built, the Dawg is immutable and is stored as flat arrays: the edges leaving node n are the entries of _edgeLetter
+ * and _edgeTarget from _edgeStart[n] up to _edgeStart[n + 1], in alphabetical order. Because nodes are shared between
+ * words, a node of a Dawg does not identify a single word the way a DictTrie node does. Instead, _numWords[n] holds the
+ * number of words that can be completed from node n, which is enough to compute the ID (alphabetical position) of a
+ * word while following its letters, and to find the word with a given ID, without storing the words themselves.
+ **/
+
+class Dawg implements Lexicon {
+    private final int[] _edgeStart;
+    private final byte[] _edgeLetter;
+    private final int[] _edgeTarget;
+    private final boolean[] _isFinal;
+    private final int[] _numWords;
+
+    /*
+    *       The Dawg() constructor stores the arrays created by the Builder.
+    *
+    *   Input:   edgeStart - for each node, the index of its first edge (with one extra entry at the end).
+    *            edgeLetter - the alphabet index of the letter on each edge.
+    *            edgeTarget - the node each edge leads to.
+    *            isFinal - for each node, whether the path leading to it is a word.
+    *   Output:  nothing.
+    */
+
+    private Dawg(int[] edgeStart, byte[] edgeLetter, int[] edgeTarget, boolean[] isFinal) {
+        _edgeStart = edgeStart;
+        _edgeLetter = edgeLetter;
+        _edgeTarget = edgeTarget;
+        _isFinal = isFinal;
+        _numWords = new int[isFinal.length];
+        if (isFinal.length > 0) {
+            this.countWords(ROOT);
+        }
+    }
+
+    /*
+    *       The countWords() method fills in _numWords for a node and every node below it. Nodes are shared, so each
+    *   node is only counted the first time it is reached. A count of 0 means the node has not been counted yet,
+    *   since every node of a minimal Dawg leads to at least one word.
+    *
+    *   Input:   node - the node to count the words from.
+    *   Output:  the number of words that can be completed from node.
+    */
+
+    private int countWords(int node) {
+        if (_numWords[node] == 0) {
+            int count = _isFinal[node] ? 1 : 0;
+            for (int edge = _edgeStart[node]; edge < _edgeStart[node + 1]; edge++) {
+                count += this.countWords(_edgeTarget[edge]);
+            }
+            _numWords[node] = count;
+        }
+        return _numWords[node];
+    }
+
+    /*
+    *       The getChild() method scans the edges leaving a node (which are in alphabetical order) for the
+    *   inputted letter.
+    *
+    *   Input:   node - the node to step from.
+    *            c - the next letter of the prefix.
+    *   Output:  the node the edge leads to, or NO_NODE if there is no edge for c.
+    */
+
+    public int getChild(int node, char c) {
+        int index = c - 'a';
+        int end = _edgeStart[node + 1];
+
+        for (int edge = _edgeStart[node]; edge < end; edge++) {
+            if (_edgeLetter[edge] == index) {
+                return _edgeTarget[edge];
+            } else if (_edgeLetter[edge] > index) {
+                break;
+            }
+        }
+        return NO_NODE;
+    }
+
+    public boolean isWord(int node) {
+        return _isFinal[node];
+    }
+
+    /*
+    *       The containsWord() method follows the letters of the word from the root. The word is in the dictionary
+    *   if every letter has an edge and the node that is reached is final.
+    *
+    *   Input:   word - the string to be searched for.
+    *   Output:  a boolean indicating whether or not the word is in the dictionary.
+    */
+
+    public Boolean containsWord(String word) {
+        int node = ROOT;
+        for (int i = 0; (i < word.length()) && (node != NO_NODE); i++) {
+            node = this.getChild(node, word.charAt(i));
+        }
+        return (node != NO_NODE) && _isFinal[node];
+    }
+
+    /*
+    *       The getWordId() method follows the letters of the word from the root, counting the words that come before
+    *   it alphabetically: at every node, the prefix itself (if it is a word) and every word below an edge with an
+    *   earlier letter.
+    *
+    *   Input:   word - the word to find the ID of.
+    *   Output:  the ID of the word, or NO_WORD if it is not in the dictionary.
+    */
+
+    public int getWordId(CharSequence word) {
+        int node = ROOT;
+        int id = 0;
+
+        for (int i = 0; i < word.length(); i++) {
+            int index = word.charAt(i) - 'a';
+            if (_isFinal[node]) {
+                id++;
+            }
+            int next = NO_NODE;
+            for (int edge = _edgeStart[node]; edge < _edgeStart[node + 1]; edge++) {
+                if (_edgeLetter[edge] < index) {
+                    id += _numWords[_edgeTarget[edge]];
+                } else {
+                    if (_edgeLetter[edge] == index) {
+                        next = _edgeTarget[edge];
+                    }
+                    break;
+                }
+            }
+            if (next == NO_NODE) {
+                return NO_WORD;
+            }
+            node = next;
+        }
+        return _isFinal[node] ? id : NO_WORD;
+    }
+
+    /*
+    *       The getWord() method finds the word with the inputted ID by walking down from the root, at each node
+    *   skipping over the edges whose words all come before it.
+    *
+    *   Input:   id - a word ID.
+    *   Output:  the word with that ID.
+    *   Error:   IllegalArgumentException if there is no word with that ID.
+    */
+
+    public String getWord(int id) {
+        if ((id < 0) || (id >= this.getNumWords())) {
+            throw new IllegalArgumentException("No word with ID " + id);
+        }
+        StringBuilder word = new StringBuilder();
+        int node = ROOT;
+        int remaining = id;
+
+        while (true) {
+            if (_isFinal[node]) {
+                if (remaining == 0) {
+                    return word.toString();
+                }
+                remaining--;
+            }
+            for (int edge = _edgeStart[node]; edge < _edgeStart[node + 1]; edge++) {
+                int count = _numWords[_edgeTarget[edge]];
+                if (remaining < count) {
+                    word.append((char) ('a' + _edgeLetter[edge]));
+                    node = _edgeTarget[edge];
+                    break;
+                }
+                remaining -= count;
+            }
+        }
+    }
+
+    public int getNumWords() {
+        return (_numWords.length == 0) ? 0 : _numWords[ROOT];
+    }
+
+    /*
+    *       Methods reporting the size of the Dawg.
+    *
+    *   Input:   nothing.
+    *   Output:  the number of nodes, the number of edges, or the number of bytes used by the arrays.
+    */
+
+    int getNumNodes() {
+        return _isFinal.length;
+    }
+
+    int getNumEdges() {
+        return _edgeTarget.length;
+    }
+
+    long getAllocatedBytes() {
+        return ((long) _edgeStart.length * Integer.BYTES) + _edgeLetter.length
+                + ((long) _edgeTarget.length * Integer.BYTES) + _isFinal.length
+                + ((long) _numWords.length * Integer.BYTES);
+    }
+
+    /*
+    *       Getters for the flat arrays, used by the DictionaryFile to write the Dawg to disk.
+    *
+    *   Input:   node - a node of the Dawg, or edge - an edge of the Dawg.
+    *   Output:  the index of the node's first edge, the number of words below the node, or the letter index / target
+    *            node of the edge.
+    */
+
+    int getNumWordsFrom(int node) {
+        return _numWords[node];
+    }
+
+    int getEdgeStart(int node) {
+        return _edgeStart[node];
+    }
+
+    int getEdgeLetter(int edge) {
+        return _edgeLetter[edge];
+    }
+
+    int getEdgeTarget(int edge) {
+        return _edgeTarget[edge];
+    }
+
+    /**
+     * Builder Class
+     * <p>
+     * The Builder class builds a minimal Dawg from words that are added in sorted order. Only the path of the most
+     * recently added word can still change, so whenever a new word branches off that path, the part of the old path
+     * below the branch is final: each of its nodes is either replaced by an identical node that was already built
+     * (kept in the _register) or added to the register itself. Words that are out of order are rejected.
+     **/
+
+    static class Builder implements WordSink {
+        private final State _root;
+        private final HashMap<State, State> _register;
+        private String _previous;
+        private Boolean _built;
+
+        Builder() {
+            _root = new State();
+            _register = new HashMap<>();
+            _previous = "";
+            _built = false;
+        }
+
+        /*
+        *       The add() method adds a word that is alphabetically after every word that was already added. The
+        *   nodes shared with the previous word are reused, the rest of the previous word's path is minimized, and
+        *   new nodes are created for the rest of the word.
+        *
+        *   Input:   word - a lowercase word.
+        *   Output:  nothing.
+        *   Error:   IllegalArgumentException if the word is out of order or is not lowercase letters,
+        *            IllegalStateException if the Dawg was already built.
+        */
+
+        public void add(String word) {
+            if (_built) {
+                throw new IllegalStateException("Dawg was already built");
+            }
+            int order = word.compareTo(_previous);
+            if (order == 0) {
+                return;
+            } else if (order < 0) {
+                throw new IllegalArgumentException("Words must be added in sorted order: " + word);
+            }
+            for (int i = 0; i < word.length(); i++) {
+                if ((word.charAt(i) < 'a') || (word.charAt(i) > 'z')) {
+                    throw new IllegalArgumentException("Words may only contain lowercase letters: " + word);
+                }
+            }
+
+            int prefix = 0;
+            State cur = _root;
+            while ((prefix < word.length()) && (prefix < _previous.length())
+                    && (word.charAt(prefix) == _previous.charAt(prefix))) {
+                cur = cur.lastChild();
+                prefix++;
+            }
+
+            if (cur.hasChildren()) {
+                this.replaceOrRegister(cur);
+            }
+
+            for (int i = prefix; i < word.length(); i++) {
+                State next = new State();
+                cur.addEdge((byte) (word.charAt(i) - 'a'), next);
+                cur = next;
+            }
+            cur._final = true;
+            _previous = word;
+        }
+
+        /*
+        *       The build() method minimizes the path of the last word and converts the graph of States into the
+        *   flat arrays of a Dawg, numbering the nodes in breadth first order so that the root is node 0.
+        *
+        *   Input:   nothing.
+        *   Output:  the minimal Dawg containing every word that was added.
+        */
+
+        Dawg build() {
+            if (_root.hasChildren()) {
+                this.replaceOrRegister(_root);
+            }
+            _built = true;
+
+            IdentityHashMap<State, Integer> ids = new IdentityHashMap<>();
+            ArrayDeque<State> queue = new ArrayDeque<>();
+            State[] order = new State[_register.size() + 1];
+            int numEdges = 0;
+
+            ids.put(_root, 0);
+            queue.add(_root);
+            while (!queue.isEmpty()) {
+                State state = queue.remove();
+                order[ids.get(state)] = state;
+                numEdges += state._numEdges;
+                for (int i = 0; i < state._numEdges; i++) {
+                    State target = state._targets[i];
+                    if (!ids.containsKey(target)) {
+                        ids.put(target, ids.size());
+                        queue.add(target);
+                    }
+                }
+            }
+
+            int numNodes = ids.size();
+            int[] edgeStart = new int[numNodes + 1];
+            byte[] edgeLetter = new byte[numEdges];
+            int[] edgeTarget = new int[numEdges];
+            boolean[] isFinal = new boolean[numNodes];
+
+            int edge = 0;
+            for (int node = 0; node < numNodes; node++) {
+                State state = order[node];
+                edgeStart[node] = edge;
+                isFinal[node] = state._final;
+                for (int i = 0; i < state._numEdges; i++) {
+                    edgeLetter[edge] = state._letters[i];
+                    edgeTarget[edge] = ids.get(state._targets[i]);
+                    edge++;
+                }
+            }
+            edgeStart[numNodes] = edge;
+
+            return new Dawg(edgeStart, edgeLetter, edgeTarget, isFinal);
+        }
+
+        /*
+        *       The replaceOrRegister() method minimizes the last (most recently added) child of a state, after first
+        *   minimizing that child's own last child. If an equivalent state is already in the register, the child is
+        *   replaced by it; otherwise the child is added to the register.
+        *
+        *   Input:   state - a state whose last child is no longer on the path of words still being added.
+        *   Output:  nothing.
+        */
+
+        private void replaceOrRegister(State state) {
+            State child = state.lastChild();
+            if (child.hasChildren()) {
+                this.replaceOrRegister(child);
+            }
+
+            State existing = _register.get(child);
+            if (existing != null) {
+                state._targets[state._numEdges - 1] = existing;
+            } else {
+                _register.put(child, child);
+            }
+        }
+    }
+
+    /**
+     * State Class
+     * <p>
+     * The State class is a node of the Dawg while it is being built. Two states are equal if they are both final or
+     * both not final and have the same letters on their edges leading to the same (already minimized) states, which
+     * means they accept exactly the same endings.
+     **/
+
+    private static class State {
+        private boolean _final;
+        private byte[] _letters = new byte[2];
+        private State[] _targets = new State[2];
+        private int _numEdges;
+
+        void addEdge(byte letter, State target) {
+            if (_numEdges == _letters.length) {
+                _letters = Arrays.copyOf(_letters, _numEdges * 2);
+                _targets = Arrays.copyOf(_targets, _numEdges * 2);
+            }
+            _letters[_numEdges] = letter;
+            _targets[_numEdges] = target;
+            _numEdges++;
+        }
+
+        boolean hasChildren() {
+            return _numEdges > 0;
+        }
+
+        State lastChild() {
+            return _targets[_numEdges - 1];
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof State)) {
+                return false;
+            }
+            State other = (State) obj;
+            if ((_final != other._final) || (_numEdges != other._numEdges)) {
+                return false;
+            }
+            for (int i = 0; i < _numEdges; i++) {
+                if ((_letters[i] != other._letters[i]) || (_targets[i] != other._targets[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = _final ? 1 : 0;
+            for (int i = 0; i < _numEdges; i++) {
+                hash = (31 * hash) + _letters[i];
+                hash = (31 * hash) + System.identityHashCode(_targets[i]);
+            }
+            return hash;
+        }
+    }
+}
@@ -1,244 +1,335 @@
 package boggle;
 
-import java.util.HashMap;
-import java.util.Iterator;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 
 /**
  * DictTrie Class
  * <p>
- * The DictTrie class is a Dictionary represented by a Trie, or a tree with each node having exactly 26 children
- * corresponding to the 26 letters in the alphabet. Additionally, the DictTrie class contains two private inner classes:
- * CheckValidWord and Node. Each instance of a node class represents a letter in a certain position within a word
- * nodes are instantiated by the DictTrie as words are added to the tree. The CheckValidWord class contains the algorithm
- * that checks if words are valid (if they are both on the board and in the dictionary). By using a Trie, I was able to use
- * a dynamic programming solution for finding a valid word by searching through the trie and the letters on the board
- * simultaneously.
+ * The DictTrie class is a Dictionary represented by a Trie, or a tree with each node having up to 26 children
+ * corresponding to the 26 letters in the alphabet. Rather than creating an object for every node, the trie is stored
+ * in a few parallel primitive arrays (a "struct of arrays"), where each node is simply an int index into the arrays:
+ * _firstChild holds the node's first child, _nextSibling the next child of the same parent, _letter the index of the
+ * node's letter in the alphabet, and _isWord whether the path from the root to the node spells a word. Children of a
+ * node are kept in alphabetical order. Words themselves are not stored on the nodes, since a word can always be rebuilt
+ * from the letters along its path. This keeps the whole Open English Word List in a few MB of heap with no per-node
+ * objects.
+ * <p>
+ * Every word is also given a dense int word ID (0, 1, 2, ... in the order the words are added, which for the sorted
+ * word list is alphabetical order, matching the IDs of the Dawg and of compiled dictionary files). The ID of the word
+ * ending at each node is kept in _wordId, so the BoardSolver or a WordList can turn a node into an ID for free, and the
+ * IdToWord table turns an ID back into its word. Code that tracks sets of words (found words, scores, duplicates) can
+ * then use int sets and bitsets instead of hashing Strings.
  **/
 
-class DictTrie {
-    private final Node _root;
-    private final CheckValidWord _wordChecker = new CheckValidWord();
-    private HashMap<Character,Integer> _childLocations;
+class DictTrie implements Lexicon, WordSink {
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private int[] _firstChild;
+    private int[] _nextSibling;
+    private byte[] _letter;
+    private boolean[] _isWord;
+    private int[] _wordId;
+    private int _numNodes;
+    private final IdToWord _words;
 
      /*
-    *       The DictTrie() constructor initializes the root node and sets its text value to a null string.
+    *       The DictTrie() constructor allocates the node arrays and creates the root node.
     *
     *   Input:   nothing.
     *   Output:  nothing.
     */
 
     DictTrie() {
-        _root = new Node();
-        _childLocations = new HashMap<>();
-        // map characters to integers to maintain locations of children
-        char[] alphabet = Constants.LC_ALPHABET.toCharArray();
-        for (int i = 0; i < 26; i++){
-            _childLocations.put(alphabet[i], i);
-        }
+        _firstChild = new int[INITIAL_CAPACITY];
+        _nextSibling = new int[INITIAL_CAPACITY];
+        _letter = new byte[INITIAL_CAPACITY];
+        _isWord = new boolean[INITIAL_CAPACITY];
+        _wordId = new int[INITIAL_CAPACITY];
+        _numNodes = 0;
+        _words = new IdToWord();
+        this.newNode(0);
     }
 
      /*
     *       The getIndex() method returns the index of the inputted char in the lowercase alphabet (each char
     *   corresponds to a unique index). It is used to consistently find the correct node when indexing into
-    *   a node's children.
+    *   a node's children. The index is computed directly from the char, so looking up a letter never boxes it.
     *
     *   Input:   c - the char to find the index of.
-    *   Output:  int - the index of the char in a String containing lowercase alphabet.
-    *   Error:   print message to console.
+    *   Output:  int - the index of the char in a String containing lowercase alphabet, or -1 if it is not a
+    *            lowercase letter.
     */
 
     private int getIndex(char c) {
-        return _childLocations.get(c);
+        if ((c < 'a') || (c > 'z')) {
+            return -1;
+        }
+        return c - 'a';
+    }
+
+    /*
+    *       The newNode() method adds a node with no children to the end of the node arrays, growing the arrays
+    *   if they are full.
+    *
+    *   Input:   letter - the index of the node's letter in the alphabet.
+    *   Output:  the index of the new node.
+    */
+
+    private int newNode(int letter) {
+        if (_numNodes == _firstChild.length) {
+            int capacity = _numNodes * 2;
+            _firstChild = Arrays.copyOf(_firstChild, capacity);
+            _nextSibling = Arrays.copyOf(_nextSibling, capacity);
+            _letter = Arrays.copyOf(_letter, capacity);
+            _isWord = Arrays.copyOf(_isWord, capacity);
+            _wordId = Arrays.copyOf(_wordId, capacity);
+        }
+        int node = _numNodes;
+        _firstChild[node] = NO_NODE;
+        _nextSibling[node] = NO_NODE;
+        _letter[node] = (byte) letter;
+        _isWord[node] = false;
+        _wordId[node] = NO_WORD;
+        _numNodes++;
+        return node;
+    }
+
+    /*
+    *       The findChild() method walks the sibling list of a node's children, which is in alphabetical order,
+    *   to find the child for a given letter.
+    *
+    *   Input:   node - the parent node.
+    *            index - the index of the letter in the alphabet.
+    *   Output:  the child node, or NO_NODE if node has no child for that letter.
+    */
+
+    private int findChild(int node, int index) {
+        int child = _firstChild[node];
+        while ((child != NO_NODE) && (_letter[child] < index)) {
+            child = _nextSibling[child];
+        }
+        if ((child != NO_NODE) && (_letter[child] == index)) {
+            return child;
+        }
+        return NO_NODE;
     }
 
      /*
-    *       The add() method adds a word to the Dictionary. If the node represents the last letter of the
-    *   word, its _isWord private variable is set to true so that DictTrie can determine if a series of letters
-    *   is a word or not. Additionally, it sets the text variable of the final node to the word that was added.
+    *       The add() method adds a word to the Dictionary. A new node is inserted (in alphabetical order among
+    *   its siblings) for every letter that does not already have a node, and the node representing the last
+    *   letter of the word is marked as a word so that DictTrie can determine if a series of letters is a word
+    *   or not. A word that is new to the trie is given the next word ID.
     *
     *   Input:   word - a String representing the word to be added.
     *   Output:  nothing.
+    *   Error:   IllegalArgumentException if the word is not lowercase letters. The whole word is checked before any
+    *            node is added, so a rejected word leaves the trie unchanged.
     */
 
-    void add(String word) {
-        char[] letters = word.toCharArray();
-        Node cur = _root;
-        Node next;
+    public void add(String word) {
+        for (int i = 0; i < word.length(); i++) {
+            if ((word.charAt(i) < 'a') || (word.charAt(i) > 'z')) {
+                throw new IllegalArgumentException("Words may only contain lowercase letters: " + word);
+            }
+        }
+
+        int cur = ROOT;
 
         for (int i = 0; i < word.length(); i++) {
-            int index = this.getIndex(letters[i]);
-            if (cur.getChildren()[index] == null) {
-                next = new Node();
-                cur.getChildren()[index] = next;
-            } else {
-                next = cur.getChildren()[this.getIndex(letters[i])];
+            int index = this.getIndex(word.charAt(i));
+            int prev = NO_NODE;
+            int child = _firstChild[cur];
+
+            while ((child != NO_NODE) && (_letter[child] < index)) {
+                prev = child;
+                child = _nextSibling[child];
             }
-            cur = next;
+
+            if ((child == NO_NODE) || (_letter[child] != index)) {
+                int next = this.newNode(index);
+                _nextSibling[next] = child;
+                if (prev == NO_NODE) {
+                    _firstChild[cur] = next;
+                } else {
+                    _nextSibling[prev] = next;
+                }
+                child = next;
+            }
+            cur = child;
         }
 
-        cur.set_word();
-        cur.set_txt(word);
+        if (!_isWord[cur]) {
+            _isWord[cur] = true;
+            _wordId[cur] = _words.add(word);
+        }
     }
 
     /*
    *       The search() method searches for a word in the trie. Starting with the root as the current node, this method
    *   iterates through all the letters in the word and finds the child of the current node corresponding to the
-   *   current letter in the word. If the child is null, there exists no word in the trie matching the inputted string
-   *   and the function returns null, otherwise it returns the node corresponding to the last letter in the word.
+   *   current letter in the word. If there is no such child, there exists no word in the trie matching the inputted
+   *   string and the function returns NO_NODE, otherwise it returns the node corresponding to the last letter in the
+   *   word.
    *
    *   Input: str - the string to be searched for in the trie (only lowercase letters are stored in trie).
-   *   Output: the node corresponding to the last letter in the word or null if string was not found.
+   *   Output: the node corresponding to the last letter in the word or NO_NODE if string was not found.
    */
 
-    private Node search(String str) {
-        char[] letters = str.toCharArray();
-        Node cur = _root;
+    private int search(String str) {
+        int cur = ROOT;
 
-        for (int i = 0; i < str.length(); i++) {
-            int index = this.getIndex(letters[i]);
-            if ((index >= 0) && (cur.getChildren()[index] != null)) {
-                cur = cur.getChildren()[index];
-            } else {
-                return null;
-            }
+        for (int i = 0; (i < str.length()) && (cur != NO_NODE); i++) {
+            cur = this.getChild(cur, str.charAt(i));
         }
         return cur;
     }
 
     /*
     *       The containsWord() method calls the search method to find the node corresponding to the last letter of the
-    *   inputted word. If the node is not null, and the text stored on the node equals the inputted word, the word
-    *   exists in the dictionary and the function returns true. If the word was not found, the function returns false.
+    *   inputted word. If the node exists and is marked as a word, the word exists in the dictionary and the function
+    *   returns true. If the word was not found, the function returns false.
     *
     *   Input: str - the string to be searched for in the trie (only lowercase letters are stored in trie).
     *   Output: a boolean indicating whether or not the word was found the the trie representing the dictionary.
     */
-    Boolean containsWord(String word) {
-        Node node = this.search(word);
-        Boolean success = false;
-
-        if (node != null) {
-            if (node.get_txt().equals(word)) {
-                success = true;
-            }
-        }
-
-        return success;
+    public Boolean containsWord(String word) {
+        int node = this.search(word);
+        return (node != NO_NODE) && _isWord[node];
     }
 
     /*
-    *       The checkValidWordTyped() method calls the checkValidWordTyped() method of the instance of the CheckValidWord
-    *   class stored in the DictTrie's _wordChecker variable.
+    *       The getChild() and isWord() methods let other classes (such as the BoardSolver) walk the trie one letter
+    *   at a time alongside the board, starting from ROOT, instead of searching from the root for every word.
     *
-    *   Input:  word - a char[] representing the word to be validated.
-    *           start - a vertex to start the search from (the vertex's letter always corresponds to the first letter of the word).
-    *   Output: a boolean indicating whether or not the word was found in the dictionary and on the board.
+    *   Input:  node - the node to step from.
+    *           c - the next letter of the prefix.
+    *   Output: the child of node for c (NO_NODE if no word continues with that letter), or whether node ends a word.
     * */
 
-    Boolean checkValidWordTyped(char[] word, Vertex start) {
-        return _wordChecker.checkValidWordTyped(word, start);
-    }
-
-    /**
-     * CheckValidWord Class
-     * <p>
-     * The CheckValidWord class contains the algorithm that checks if words are valid (if they are both on the
-     * board and in the dictionary). By using a Trie, I was able to use a dynamic programming solution for finding a
-     * valid word by searching through the trie and the letters on the board simultaneously.
-     **/
-
-    private class CheckValidWord {
-        private Boolean _wordFound;
-
-        private CheckValidWord() {
-            _wordFound = false;
+    public int getChild(int node, char c) {
+        int index = this.getIndex(c);
+        if (index < 0) {
+            return NO_NODE;
         }
+        return this.findChild(node, index);
+    }
 
+    public boolean isWord(int node) {
+        return _isWord[node];
+    }
 
-        Boolean checkValidWordTyped(char[] word, Vertex start) {
-
+    /*
+    *       The getWordId() methods return the dense ID of a word, either from the node the word ends at (without
+    *   walking the trie) or from the word itself. getWord() turns an ID back into its word, and getNumWords() is
+    *   one more than the largest ID.
+    *
+    *   Input:  node - a node of the trie, word - a word, or id - a word ID.
+    *   Output: the ID of the word (NO_WORD if it is not in the dictionary), the word with the inputted ID, or the
+    *           number of words.
+    *   Error:  IllegalArgumentException if there is no word with the inputted ID.
+    * */
 
-            int index = DictTrie.this.getIndex(word[0]);
-            Node node = _root.getChildren()[index];
+    int getWordId(int node) {
+        return _wordId[node];
+    }
 
-            if (this.checkValidWordHelperTyped(word, start, node, 0)) {
-                _wordFound = false;  // reset global variable
-                return true;
-            } else {
-                return false;
-            }
+    public int getWordId(CharSequence word) {
+        int cur = ROOT;
+        for (int i = 0; (i < word.length()) && (cur != NO_NODE); i++) {
+            cur = this.getChild(cur, word.charAt(i));
         }
+        return (cur == NO_NODE) ? NO_WORD : _wordId[cur];
+    }
 
+    public String getWord(int id) {
+        return _words.get(id);
+    }
 
-        private Boolean checkValidWordHelperTyped(char[] word, Vertex vert, Node node, int i) {
-            vert.setVisited(true);
+    public int getNumWords() {
+        return _words.size();
+    }
 
-            if ((i == (word.length - 1)) && (node.is_word()) && (word[i] == vert.getChar())) {
-                _wordFound = true;
-            } else if ((i < (word.length - 1)) && (word[i] == vert.getChar()) && (!_wordFound)) {
-                Iterator<Vertex> neighbors = vert.getNeighbors().iterator();
-                i++;
-                int index = DictTrie.this.getIndex(word[i]);
+    /*
+    *       The getNumNodes() and getAllocatedBytes() methods report the size of the trie. getAllocatedBytes() counts
+    *   the payload of the node arrays and the IdToWord table (including unused capacity), not the array headers.
+    *
+    *   Input:  nothing.
+    *   Output: the number of nodes in use, or the number of bytes allocated for the node arrays.
+    * */
 
-                if (index >= 0) {
-                    Node child = node.getChildren()[index];
+    int getNumNodes() {
+        return _numNodes;
+    }
 
-                    while (neighbors.hasNext()) {
-                        Vertex neighbor = neighbors.next();
+    long getAllocatedBytes() {
+        long capacity = _firstChild.length;
+        return (capacity * (Integer.BYTES + Integer.BYTES + Byte.BYTES + 1 + Integer.BYTES))
+                + _words.getAllocatedBytes();
+    }
 
-                        if ((neighbor.getChar() == word[i]) && (!neighbor.getVisited()) && (child != null)) {
-                            this.checkValidWordHelperTyped(word, neighbor, child, i);
-                        }
-                    }
-                }
-            }
+    /*
+    *       Getters for the node arrays, used by the DictionaryFile to write the trie to disk.
+    *
+    *   Input:  node - a node of the trie.
+    *   Output: the node's first child or next sibling (NO_NODE if there is none), or the index of its letter.
+    * */
 
-            vert.setVisited(false);
+    int getFirstChild(int node) {
+        return _firstChild[node];
+    }
 
-            return _wordFound;
+    int getNextSibling(int node) {
+        return _nextSibling[node];
+    }
 
-        }
+    int getLetter(int node) {
+        return _letter[node];
     }
 
     /**
-     * Node Class
+     * IdToWord Class
      * <p>
-     * The Node class represents a node in the trie. Each node contains an array of references to 26
-     * possible children. Each index corresponds to a lowercase letter-- in alphabetical order. By using
-     * the DictTrie's get index method, the child of a node corresponding to a given letter. If the node
-     * is a word, its _isWord variable is set to true and the word is stored in the node's _txt variable.
+     * The IdToWord class is the reverse table from word IDs to words. Rather than keeping a String for every word, the
+     * letters of all the words are appended to one shared byte[] arena (one byte per letter), and _start[id] is the
+     * offset of word id in the arena, so the whole table is just two arrays.
      **/
 
-    private class Node {
-        private final Node[] _children;
-        private Boolean _isWord;
-        private String _txt;
+    private static class IdToWord {
+        private byte[] _letters = new byte[INITIAL_CAPACITY];
+        private int[] _start = new int[INITIAL_CAPACITY];
+        private int _numWords;
+        private int _numLetters;
 
-        Node() {
-            _children = new Node[26];
-            _isWord = false;
-            _txt = "";
-        }
-
-        Node[] getChildren() {
-            return _children;
-        }
-
-        Boolean is_word() {
-            return _isWord;
+        int add(String word) {
+            if ((_numLetters + word.length()) > _letters.length) {
+                _letters = Arrays.copyOf(_letters, Math.max(_letters.length * 2, _numLetters + word.length()));
+            }
+            if ((_numWords + 1) == _start.length) {
+                _start = Arrays.copyOf(_start, _start.length * 2);
+            }
+            for (int i = 0; i < word.length(); i++) {
+                _letters[_numLetters + i] = (byte) word.charAt(i);
+            }
+            _numLetters += word.length();
+            _numWords++;
+            _start[_numWords] = _numLetters;
+            return _numWords - 1;
         }
 
-        String get_txt() {
-            return _txt;
+        String get(int id) {
+            if ((id < 0) || (id >= _numWords)) {
+                throw new IllegalArgumentException("No word with ID " + id);
+            }
+            return new String(_letters, _start[id], _start[id + 1] - _start[id], StandardCharsets.US_ASCII);
         }
 
-        void set_txt(String word) {
-            _txt = word;
+        int size() {
+            return _numWords;
         }
 
-        void set_word() {
-            _isWord = true;
+        long getAllocatedBytes() {
+            return _letters.length + ((long) _start.length * Integer.BYTES);
         }
     }
-
 }
@@ -0,0 +1,208 @@
+package boggle;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * DictionaryFile Class
+ * <p>
+ * The DictionaryFile class defines a flat binary format for a compiled dictionary, writes DictTries and Dawgs to it,
+ * and maps compiled files back into memory as a MappedLexicon. Loading the text word list means reading and inserting
+ * 178k words every time the program starts; a compiled file is instead mapped straight into memory with
+ * FileChannel.map() and walked in place, so loading takes milliseconds and several JVMs on the same machine share the
+ * same pages of the operating system's file cache.
+ * <p>
+ * All values are little-endian ints unless noted otherwise. The file has five sections:
+ * <pre>
+ *   header      MAGIC, VERSION, number of nodes (n), number of edges (e)
+ *   edgeStart   n + 1 ints: the edges leaving node i are edgeStart[i] up to edgeStart[i + 1]
+ *   edges       e ints: (target node &lt;&lt; 5) | alphabet index of the letter, in alphabetical order per node
+ *   wordCounts  n ints: the number of words that can be completed from each node (wordCounts[0] is every word)
+ *   flags       n bytes: bit 0 is set if the node ends a word
+ * </pre>
+ * Node 0 is the root. The word counts let the MappedLexicon number the words alphabetically without storing them.
+ * Files of any other VERSION are rejected. The main() method is the offline compiler:
+ * <pre>
+ *   java boggle.DictionaryFile &lt;output file&gt; [trie|dawg]
+ * </pre>
+ **/
+
+class DictionaryFile {
+    static final String FILE_PROPERTY = "boggle.dictionary.file";
+
+    static final int MAGIC = 0x42474458;
+    static final int VERSION = 2;
+    static final int HEADER_BYTES = 4 * Integer.BYTES;
+    static final int LETTER_BITS = 5;
+    static final int LETTER_MASK = (1 << LETTER_BITS) - 1;
+    static final int FLAG_WORD = 1;
+
+    private DictionaryFile() {
+    }
+
+    /*
+    *       The write() methods convert a DictTrie or a Dawg into the arrays of the file format and write them to the
+    *   inputted path, replacing any existing file.
+    *
+    *   Input:   trie/dawg - the dictionary to be written.
+    *            path - the file to write to.
+    *   Output:  nothing.
+    *   Error:   IOException if the file cannot be written.
+    */
+
+    static void write(DictTrie trie, Path path) throws IOException {
+        int numNodes = trie.getNumNodes();
+        int[] edgeStart = new int[numNodes + 1];
+        int[] edges = new int[numNodes - 1];
+        int[] wordCounts = new int[numNodes];
+        byte[] flags = new byte[numNodes];
+
+        int edge = 0;
+        for (int node = 0; node < numNodes; node++) {
+            edgeStart[node] = edge;
+            flags[node] = (byte) (trie.isWord(node) ? FLAG_WORD : 0);
+            for (int child = trie.getFirstChild(node); child != Lexicon.NO_NODE; child = trie.getNextSibling(child)) {
+                edges[edge] = DictionaryFile.packEdge(child, trie.getLetter(child));
+                edge++;
+            }
+        }
+        edgeStart[numNodes] = edge;
+
+        //Children are always created after their parents, so counting from the last node up counts children first.
+        for (int node = numNodes - 1; node >= 0; node--) {
+            wordCounts[node] += trie.isWord(node) ? 1 : 0;
+            for (int child = trie.getFirstChild(node); child != Lexicon.NO_NODE; child = trie.getNextSibling(child)) {
+                wordCounts[node] += wordCounts[child];
+            }
+        }
+
+        DictionaryFile.writeArrays(path, edgeStart, edges, wordCounts, flags);
+    }
+
+    static void write(Dawg dawg, Path path) throws IOException {
+        int numNodes = dawg.getNumNodes();
+        int[] edgeStart = new int[numNodes + 1];
+        int[] edges = new int[dawg.getNumEdges()];
+        int[] wordCounts = new int[numNodes];
+        byte[] flags = new byte[numNodes];
+
+        for (int node = 0; node <= numNodes; node++) {
+            edgeStart[node] = dawg.getEdgeStart(node);
+        }
+        for (int node = 0; node < numNodes; node++) {
+            flags[node] = (byte) (dawg.isWord(node) ? FLAG_WORD : 0);
+            wordCounts[node] = dawg.getNumWordsFrom(node);
+        }
+        for (int edge = 0; edge < edges.length; edge++) {
+            edges[edge] = DictionaryFile.packEdge(dawg.getEdgeTarget(edge), dawg.getEdgeLetter(edge));
+        }
+
+        DictionaryFile.writeArrays(path, edgeStart, edges, wordCounts, flags);
+    }
+
+    /*
+    *       The map() method maps a compiled dictionary file into memory. Nothing is copied onto the heap; the
+    *   returned MappedLexicon reads the file in place.
+    *
+    *   Input:   path - the compiled dictionary file.
+    *   Output:  a MappedLexicon over the file.
+    *   Error:   IOException if the file cannot be read or is not a compiled dictionary.
+    */
+
+    static MappedLexicon map(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+            if ((buffer.limit() < HEADER_BYTES) || (buffer.getInt(0) != MAGIC)) {
+                throw new IOException(path + " is not a compiled dictionary");
+            }
+            if (buffer.getInt(4) != VERSION) {
+                throw new IOException(path + " has unsupported version " + buffer.getInt(4));
+            }
+
+            int numNodes = buffer.getInt(8);
+            int numEdges = buffer.getInt(12);
+            long expected = HEADER_BYTES + ((numNodes + 1L) * Integer.BYTES) + ((long) numEdges * Integer.BYTES)
+                    + ((long) numNodes * Integer.BYTES) + numNodes;
+            if (buffer.limit() != expected) {
+                throw new IOException(path + " is truncated or corrupt");
+            }
+            return new MappedLexicon(buffer, numNodes, numEdges);
+        }
+    }
+
+    /*
+    *       The packEdge() method combines the target and letter of an edge into the single int stored in the file.
+    *
+    *   Input:   target - the node the edge leads to.
+    *            letter - the alphabet index of the letter on the edge.
+    *   Output:  the packed edge.
+    */
+
+    private static int packEdge(int target, int letter) {
+        if (target >= (1 << (Integer.SIZE - 1 - LETTER_BITS))) {
+            throw new IllegalArgumentException("Too many nodes for the dictionary file format");
+        }
+        return (target << LETTER_BITS) | letter;
+    }
+
+    /*
+    *       The writeArrays() method writes the header and the four sections to a file.
+    *
+    *   Input:   path - the file to write to.
+    *            edgeStart, edges, wordCounts, flags - the sections of the file.
+    *   Output:  nothing.
+    */
+
+    private static void writeArrays(Path path, int[] edgeStart, int[] edges, int[] wordCounts, byte[] flags)
+            throws IOException {
+        int numInts = edgeStart.length + edges.length + wordCounts.length;
+        int size = HEADER_BYTES + (numInts * Integer.BYTES) + flags.length;
+        ByteBuffer buffer = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+
+        buffer.putInt(MAGIC);
+        buffer.putInt(VERSION);
+        buffer.putInt(flags.length);
+        buffer.putInt(edges.length);
+        buffer.asIntBuffer().put(edgeStart).put(edges).put(wordCounts);
+        buffer.position(HEADER_BYTES + (numInts * Integer.BYTES));
+        buffer.put(flags);
+        buffer.flip();
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    /*
+    * ----------------------------------------------- Mainline ---------------------------------------------------
+    * */
+    public static void main(String[] argv) throws IOException {
+        if ((argv.length < 1) || (argv.length > 2)) {
+            System.out.println("Usage: java boggle.DictionaryFile <output file> [trie|dawg]");
+            System.exit(1);
+        }
+        Path path = Paths.get(argv[0]);
+
+        if ((argv.length == 2) && argv[1].equals("trie")) {
+            DictTrie trie = new DictTrie();
+            new LineReader(trie).addToDict();
+            DictionaryFile.write(trie, path);
+        } else {
+            Dawg.Builder builder = new Dawg.Builder();
+            new LineReader(builder).addToDict();
+            DictionaryFile.write(builder.build(), path);
+        }
+        System.out.println("Wrote " + path);
+    }
+}
@@ -0,0 +1,97 @@
+package boggle;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+/**
+ * DictionaryService Class
+ * <p>
+ * The DictionaryService class loads the dictionary once per process and shares it with every Game. Reading the
+ * "OpenEnglishWordList.txt" file and building the dictionary is by far the slowest part of starting a game, so rather
+ * than rebuilding it every time a new game is created, the dictionary is built the first time it is needed and the
+ * same instance is returned from then on. The dictionary is never modified after it is loaded, so it can be read by
+ * any number of games (and threads) at once. The App starts loading it on a background thread while the welcome
+ * screen is still showing, through BoardPool.warmUp().
+ * <p>
+ * By default the dictionary is a DictTrie. Setting the system property "boggle.dictionary" to "dawg" loads it into a
+ * Dawg instead, which shares suffixes as well as prefixes and so takes a fraction of the memory. Setting the system
+ * property "boggle.dictionary.file" to a file compiled by the DictionaryFile class maps that file into memory instead
+ * of reading the word list at all.
+ **/
+
+class DictionaryService {
+    static final String KIND_PROPERTY = "boggle.dictionary";
+
+    private DictionaryService() {
+    }
+
+    /*
+    *       The get() method returns the shared dictionary, loading it first if it has not been loaded yet. If another
+    *   thread is already loading the dictionary, the caller waits until it is finished.
+    *
+    *   Input:   nothing.
+    *   Output:  the Lexicon containing every word in the dictionary.
+    */
+
+    static Lexicon get() {
+        return Holder.DICT;
+    }
+
+    /*
+    *       The load() method maps the compiled dictionary file if one was given, otherwise it creates the kind of
+    *   dictionary selected by the "boggle.dictionary" property and uses a LineReader to fill it with the contents of
+    *   the word list. If the compiled file cannot be mapped, the word list is read instead.
+    *
+    *   Input:   nothing.
+    *   Output:  the filled Lexicon.
+    */
+
+    private static Lexicon load() {
+        String file = System.getProperty(DictionaryFile.FILE_PROPERTY);
+        if (file != null) {
+            try {
+                return DictionaryFile.map(Paths.get(file));
+            } catch (IOException ex) {
+                System.out.println(ex.toString());
+            }
+        }
+
+        if ("dawg".equals(System.getProperty(KIND_PROPERTY))) {
+            Dawg.Builder builder = new Dawg.Builder();
+            DictionaryService.fill(builder);
+            return builder.build();
+        }
+
+        DictTrie trie = new DictTrie();
+        DictionaryService.fill(trie);
+        return trie;
+    }
+
+    /*
+    *       The fill() method adds every word in the dictionary file to the inputted WordSink.
+    *
+    *   Input:   sink - the dictionary being built.
+    *   Output:  nothing.
+    */
+
+    private static void fill(WordSink sink) {
+        LineReader reader = new LineReader(sink);
+        try {
+            reader.addToDict();
+        } catch (IOException ex) {
+            System.out.println(ex.toString());
+        }
+    }
+
+    /**
+     * Holder Class
+     * <p>
+     * The Holder class is only initialized the first time get() is called. The JVM guarantees that a class is
+     * initialized exactly once and that every thread sees the fully loaded dictionary afterwards, so no further
+     * locking is needed.
+     **/
+
+    private static class Holder {
+        private static final Lexicon DICT = DictionaryService.load();
+    }
+}
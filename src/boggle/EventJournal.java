@@ -0,0 +1,629 @@
+package boggle;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+
+/**
+ * EventJournal Class
+ * <p>
+ * The EventJournal class records what happens in every Round to an append-only binary file, so that games can be
+ * audited and replayed after they are over: the board each round was played on, every word submitted (with the time,
+ * whether it was valid, and the points awarded, including repeated words and valid words too short to score), and how
+ * the round ended, with its final score. Replaying a round's events into a new Round on the same board therefore
+ * submits the words the player submitted, in order. Recording has to stay off the path between submitting a word and
+ * seeing it in the WordListVis, so the file is pre-allocated in chunks of CHUNK_BYTES that are mapped into memory, and
+ * recording an event only copies a few bytes into the mapped chunk. A background (daemon) thread forces the written
+ * pages to disk every FLUSH_MILLIS, so one fsync covers every event of the last interval. When an event does not fit in
+ * the current chunk, the full chunk is handed to the flusher thread too, so moving on to a new chunk never waits for
+ * the disk. An event is therefore only guaranteed to be on disk FLUSH_MILLIS after it was recorded, or once the journal
+ * is closed.
+ * <p>
+ * The file starts with a header of MAGIC, VERSION and the chunk size, followed by the events. Each event is a type
+ * byte, the round ID (int) and the time in milliseconds since the epoch (long), followed by:
+ * <pre>
+ *   ROUND_STARTED    dimension (int), then dim * dim bytes holding the alphabet index (or QU) of each tile
+ *   WORD_SUBMITTED   valid (byte), points (int), then the word
+ *   WORD_REPEATED    the word, which was already submitted in the round
+ *   WORD_TOO_SHORT   the word, which is valid but has two letters or fewer
+ *   ROUND_OVER       final score (int), when the time ran out
+ *   ROUND_STOPPED    final score (int), when the round was stopped before the time ran out
+ * </pre>
+ * A word is written as its length in bytes (byte) followed by the word in UTF-8. Words longer than MAX_WORD_BYTES bytes
+ * are cut at the last whole character that fits. All values are little-endian. Events never cross the end of a chunk;
+ * the rest of a chunk that an event does not fit in is left as zeros, and a zero type byte means "go to the next
+ * chunk", or the end of the journal if there is none. The type byte of an event is written last, after the rest of the
+ * event, so an event torn by a crash still reads as a zero type, and the journal ends before it. Round IDs count up
+ * from 0 within a journal, and continue from the last one when an existing journal is reopened.
+ * <p>
+ * The Game records every Round it starts in the shared journal returned by get(), which is only opened if the system
+ * property "boggle.journal.file" is set.
+ **/
+
+class EventJournal implements Closeable {
+    static final String FILE_PROPERTY = "boggle.journal.file";
+
+    static final int MAGIC = 0x42474a4c;
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 3 * Integer.BYTES;
+    static final int CHUNK_BYTES = 1 << 24;
+    static final long FLUSH_MILLIS = 100;
+
+    static final byte END = 0;
+    static final byte ROUND_STARTED = 1;
+    static final byte WORD_SUBMITTED = 2;
+    static final byte ROUND_OVER = 3;
+    static final byte WORD_REPEATED = 4;
+    static final byte WORD_TOO_SHORT = 5;
+    static final byte ROUND_STOPPED = 6;
+    static final int MAX_WORD_BYTES = 255;
+
+    static final int EVENT_HEADER_BYTES = 1 + Integer.BYTES + Long.BYTES;
+
+    private static EventJournal _shared;
+    private static boolean _sharedOpened = false;
+
+    private final FileChannel _channel;
+    private final int _chunkBytes;
+    private final Thread _flusher;
+    private final ArrayList<MappedByteBuffer> _fullChunks;
+    private MappedByteBuffer _chunk;
+    private long _chunkStart;
+    private int _eventStart;
+    private int _nextRoundId;
+    private long _numEvents;
+    private boolean _dirty;
+    private boolean _closed;
+
+    /*
+    *       The EventJournal() constructors open a journal for appending. A new or empty file gets a header and its
+    *   first chunk; an existing journal is read to find the end of its last event and its last round ID, and keeps
+    *   the chunk size it was created with.
+    *
+    *   Input:   path - the journal file.
+    *            chunkBytes - the size of the chunks of a new journal (CHUNK_BYTES by default).
+    *   Output:  nothing.
+    *   Error:   IOException if the file cannot be opened, or is not a journal, or IllegalArgumentException if
+    *            chunkBytes is too small to hold the header and an event.
+    */
+
+    EventJournal(Path path) throws IOException {
+        this(path, CHUNK_BYTES);
+    }
+
+    EventJournal(Path path, int chunkBytes) throws IOException {
+        if (chunkBytes < (HEADER_BYTES + EVENT_HEADER_BYTES + Integer.BYTES)) {
+            throw new IllegalArgumentException("Chunks of " + chunkBytes + " bytes are too small");
+        }
+        _channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        _fullChunks = new ArrayList<>();
+        try {
+            long position;
+            if (_channel.size() == 0) {
+                _chunkBytes = chunkBytes;
+                _nextRoundId = 0;
+                position = HEADER_BYTES;
+                this.mapChunk(0);
+                _chunk.putInt(0, MAGIC);
+                _chunk.putInt(4, VERSION);
+                _chunk.putInt(8, _chunkBytes);
+            } else {
+                Tail tail = new Tail();
+                EventJournal.replay(_channel, path, tail);
+                _chunkBytes = tail._chunkBytes;
+                _nextRoundId = tail._lastRoundId + 1;
+                position = tail._end;
+                this.mapChunk((position / _chunkBytes) * _chunkBytes);
+                //An event torn by a crash may be left after the end; clear it, or its bytes would follow the next one.
+                for (int i = (int) (position - _chunkStart); i < _chunkBytes; i++) {
+                    if (_chunk.get(i) != END) {
+                        _chunk.put(i, END);
+                    }
+                }
+            }
+            _chunk.position((int) (position - _chunkStart));
+        } catch (IOException ex) {
+            _channel.close();
+            throw ex;
+        }
+        _numEvents = 0;
+        _dirty = true;
+        _closed = false;
+
+        _flusher = new Thread(new Flusher(), "event-journal-flusher");
+        _flusher.setDaemon(true);
+        _flusher.start();
+    }
+
+    /*
+    *       The get() method returns the shared journal named by the "boggle.journal.file" system property, opening
+    *   it the first time it is needed and closing it when the JVM exits. If the property is not set, or the file
+    *   cannot be opened, nothing is recorded.
+    *
+    *   Input:   nothing.
+    *   Output:  the shared EventJournal, or null if there is none.
+    */
+
+    static synchronized EventJournal get() {
+        if (!_sharedOpened) {
+            _sharedOpened = true;
+            String file = System.getProperty(FILE_PROPERTY);
+            if (file != null) {
+                try {
+                    _shared = new EventJournal(Paths.get(file));
+                    Runtime.getRuntime().addShutdownHook(new Thread(new Closer(_shared), "event-journal-closer"));
+                } catch (IOException ex) {
+                    System.out.println(ex.toString());
+                }
+            }
+        }
+        return _shared;
+    }
+
+    /*
+    *       The record() method records the start of a Round and listens to it, so every word submitted in it and its
+    *   final score are recorded too.
+    *
+    *   Input:   round - the Round to be recorded.
+    *   Output:  the round ID given to the Round in the journal.
+    */
+
+    synchronized int record(Round round) {
+        int roundId = _nextRoundId;
+        _nextRoundId++;
+        PackedBoard board = round.getAnswers().getBoard();
+        ByteBuffer event = this.startEvent(roundId, Integer.BYTES + board.getNumCells());
+        event.putInt(board.getDim());
+        for (int cell = 0; cell < board.getNumCells(); cell++) {
+            event.put((byte) board.getLetter(cell));
+        }
+        this.commitEvent(ROUND_STARTED);
+        round.addListener(new Recorder(roundId));
+        return roundId;
+    }
+
+    /*
+    *       The startEvent() method makes room for an event in the current chunk, moving on to a new chunk if it does
+    *   not fit, and writes the round ID and time of the event. The type byte is left as END until commitEvent() is
+    *   called, so an event that is only partly written when the JVM or the machine crashes ends the journal instead
+    *   of being read back as garbage.
+    *
+    *   Input:   roundId - the round the event happened in.
+    *            payloadBytes - the number of bytes that follow the time.
+    *   Output:  the mapped chunk, positioned where the rest of the event is to be written.
+    *   Error:   IllegalStateException if the journal is closed or the event cannot be written.
+    */
+
+    private ByteBuffer startEvent(int roundId, int payloadBytes) {
+        if (_closed) {
+            throw new IllegalStateException("The event journal is closed");
+        }
+        int eventBytes = EVENT_HEADER_BYTES + payloadBytes;
+        if (eventBytes > (_chunkBytes - HEADER_BYTES)) {
+            throw new IllegalArgumentException("An event of " + eventBytes + " bytes does not fit in a chunk");
+        }
+        if (_chunk.remaining() < eventBytes) {
+            try {
+                //The flusher forces the full chunk along with the current one.
+                _fullChunks.add(_chunk);
+                this.mapChunk(_chunkStart + _chunkBytes);
+            } catch (IOException ex) {
+                throw new IllegalStateException("The event journal could not grow", ex);
+            }
+        }
+        _eventStart = _chunk.position();
+        _chunk.put(END);
+        _chunk.putInt(roundId);
+        _chunk.putLong(System.currentTimeMillis());
+        return _chunk;
+    }
+
+    /*
+    *       The commitEvent() method writes the type byte of the event started by startEvent(), once the rest of the
+    *   event has been written.
+    *
+    *   Input:   type - the type of the event.
+    *   Output:  nothing.
+    */
+
+    private void commitEvent(byte type) {
+        _chunk.put(_eventStart, type);
+        _numEvents++;
+        _dirty = true;
+    }
+
+    /*
+    *       The mapChunk() method maps the chunk starting at the inputted position of the file, which grows the file
+    *   if the chunk is past its end.
+    *
+    *   Input:   start - the position of the chunk in the file.
+    *   Output:  nothing.
+    *   Error:   IOException if the chunk cannot be mapped.
+    */
+
+    private void mapChunk(long start) throws IOException {
+        _chunk = _channel.map(FileChannel.MapMode.READ_WRITE, start, _chunkBytes);
+        _chunk.order(ByteOrder.LITTLE_ENDIAN);
+        _chunkStart = start;
+    }
+
+    /*
+    *       The flush() method forces every event recorded so far to disk: the chunks that filled up since the last
+    *   flush, then the current one. It is called by the flusher thread, so events are batched, but can also be called
+    *   directly. The journal is not locked while the chunks are forced, so events can be recorded in the meantime.
+    *
+    *   Input:   nothing.
+    *   Output:  nothing.
+    */
+
+    void flush() {
+        MappedByteBuffer[] fullChunks;
+        MappedByteBuffer chunk;
+        synchronized (this) {
+            if (!_dirty || _closed) {
+                return;
+            }
+            _dirty = false;
+            fullChunks = _fullChunks.toArray(new MappedByteBuffer[0]);
+            _fullChunks.clear();
+            chunk = _chunk;
+        }
+        for (MappedByteBuffer fullChunk : fullChunks) {
+            fullChunk.force();
+        }
+        chunk.force();
+    }
+
+    /*
+    *       The close() method stops the flusher, forces every event to disk and closes the file. Events recorded
+    *   after the journal is closed are dropped.
+    *
+    *   Input:   nothing.
+    *   Output:  nothing.
+    *   Error:   IOException if the file cannot be closed.
+    */
+
+    public void close() throws IOException {
+        synchronized (this) {
+            if (_closed) {
+                return;
+            }
+            for (MappedByteBuffer fullChunk : _fullChunks) {
+                fullChunk.force();
+            }
+            _fullChunks.clear();
+            _chunk.force();
+            _closed = true;
+        }
+        _flusher.interrupt();
+        _channel.close();
+    }
+
+    /*
+    *                                                Getters
+    *
+    */
+
+    synchronized long getNumEvents() {
+        return _numEvents;
+    }
+
+    int getChunkBytes() {
+        return _chunkBytes;
+    }
+
+    /*
+    *       The replay() method reads every event in a journal, in the order they were recorded, and passes each one
+    *   to the inputted visitor. The file is read one mapped chunk at a time.
+    *
+    *   Input:   path - the journal file.
+    *            visitor - the Visitor the events are passed to.
+    *   Output:  nothing.
+    *   Error:   IOException if the file cannot be read or is not a journal.
+    */
+
+    static void replay(Path path, Visitor visitor) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            EventJournal.replay(channel, path, visitor);
+        }
+    }
+
+    private static void replay(FileChannel channel, Path path, Visitor visitor) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        while (header.hasRemaining() && (channel.read(header, header.position()) > 0)) {
+            //Keep reading until the header is full or the file ends.
+        }
+        if (header.hasRemaining() || (header.getInt(0) != MAGIC)) {
+            throw new IOException(path + " is not an event journal");
+        }
+        if (header.getInt(4) != VERSION) {
+            throw new IOException(path + " has unsupported version " + header.getInt(4));
+        }
+        int chunkBytes = header.getInt(8);
+        if ((chunkBytes <= HEADER_BYTES) || ((channel.size() % chunkBytes) != 0)) {
+            throw new IOException(path + " is truncated or corrupt");
+        }
+        visitor.journalOpened(chunkBytes);
+
+        long end = HEADER_BYTES;
+        for (long start = 0; start < channel.size(); start += chunkBytes) {
+            MappedByteBuffer chunk = channel.map(FileChannel.MapMode.READ_ONLY, start, chunkBytes);
+            chunk.order(ByteOrder.LITTLE_ENDIAN);
+            chunk.position((start == 0) ? HEADER_BYTES : 0);
+            if ((start > 0) && (chunk.get(0) == END)) {
+                break;
+            }
+
+            while ((chunk.remaining() >= EVENT_HEADER_BYTES) && (chunk.get(chunk.position()) != END)) {
+                byte type = chunk.get();
+                int roundId = chunk.getInt();
+                long time = chunk.getLong();
+                try {
+                    EventJournal.readEvent(chunk, type, roundId, time, visitor);
+                } catch (RuntimeException ex) {
+                    throw new IOException(path + " is truncated or corrupt", ex);
+                }
+                end = start + chunk.position();
+            }
+        }
+        visitor.journalEnded(end);
+    }
+
+    /*
+    *       The readEvent() method reads the rest of an event and passes it to the visitor.
+    *
+    *   Input:   chunk - the mapped chunk, positioned after the time of the event.
+    *            type, roundId, time - the start of the event.
+    *            visitor - the Visitor the event is passed to.
+    *   Output:  nothing.
+    *   Error:   IllegalArgumentException if the type is unknown, or BufferUnderflowException if the event is cut off.
+    */
+
+    private static void readEvent(ByteBuffer chunk, byte type, int roundId, long time, Visitor visitor) {
+        if (type == ROUND_STARTED) {
+            int dim = chunk.getInt();
+            byte[] letters = new byte[dim * dim];
+            chunk.get(letters);
+            visitor.roundStarted(roundId, time, new PackedBoard(dim, letters));
+        } else if (type == WORD_SUBMITTED) {
+            boolean valid = chunk.get() != 0;
+            int points = chunk.getInt();
+            visitor.wordSubmitted(roundId, time, EventJournal.readWord(chunk), valid, points);
+        } else if (type == WORD_REPEATED) {
+            visitor.wordRepeated(roundId, time, EventJournal.readWord(chunk));
+        } else if (type == WORD_TOO_SHORT) {
+            visitor.wordTooShort(roundId, time, EventJournal.readWord(chunk));
+        } else if (type == ROUND_OVER) {
+            visitor.roundOver(roundId, time, chunk.getInt());
+        } else if (type == ROUND_STOPPED) {
+            visitor.roundStopped(roundId, time, chunk.getInt());
+        } else {
+            throw new IllegalArgumentException("Unknown event type " + type);
+        }
+    }
+
+    /*
+    *       The readWord() method reads a word written as its length in bytes followed by its UTF-8 bytes.
+    *
+    *   Input:   chunk - the mapped chunk, positioned at the length of the word.
+    *   Output:  the word.
+    */
+
+    private static String readWord(ByteBuffer chunk) {
+        byte[] word = new byte[chunk.get() & 0xff];
+        chunk.get(word);
+        return new String(word, StandardCharsets.UTF_8);
+    }
+
+    /*
+    *       The getWordLength() method finds how many bytes of a UTF-8 encoded word are recorded: all of them if they
+    *   fit in MAX_WORD_BYTES, otherwise as many as fit without cutting a character in two.
+    *
+    *   Input:   bytes - the word in UTF-8.
+    *   Output:  the number of bytes to record.
+    */
+
+    static int getWordLength(byte[] bytes) {
+        if (bytes.length <= MAX_WORD_BYTES) {
+            return bytes.length;
+        }
+        //A character starts at every byte that is not a continuation byte (10xxxxxx).
+        int length = MAX_WORD_BYTES;
+        while ((length > 0) && ((bytes[length] & 0xc0) == 0x80)) {
+            length--;
+        }
+        return length;
+    }
+
+    /**
+     * Visitor Interface
+     * <p>
+     * The Visitor interface is implemented by anything that reads a journal with replay(), which calls it once for
+     * each event in the order they were recorded.
+     **/
+
+    interface Visitor {
+        void journalOpened(int chunkBytes);
+
+        void roundStarted(int roundId, long time, PackedBoard board);
+
+        void wordSubmitted(int roundId, long time, String word, boolean valid, int points);
+
+        void wordRepeated(int roundId, long time, String word);
+
+        void wordTooShort(int roundId, long time, String word);
+
+        void roundOver(int roundId, long time, int score);
+
+        void roundStopped(int roundId, long time, int score);
+
+        void journalEnded(long end);
+    }
+
+    /**
+     * Recorder Class
+     * <p>
+     * The Recorder class listens to a single Round and records every word submitted in it and how it ended.
+     **/
+
+    private class Recorder implements RoundListener {
+        private final int _roundId;
+        private int _score;
+
+        Recorder(int roundId) {
+            _roundId = roundId;
+            _score = 0;
+        }
+
+        public void wordSubmitted(String word, boolean valid, int points) {
+            byte[] bytes = word.getBytes(StandardCharsets.UTF_8);
+            int length = EventJournal.getWordLength(bytes);
+            synchronized (EventJournal.this) {
+                if (!_closed) {
+                    ByteBuffer event = EventJournal.this.startEvent(_roundId, 2 + Integer.BYTES + length);
+                    event.put((byte) (valid ? 1 : 0));
+                    event.putInt(points);
+                    event.put((byte) length);
+                    event.put(bytes, 0, length);
+                    EventJournal.this.commitEvent(WORD_SUBMITTED);
+                }
+            }
+        }
+
+        public void wordRepeated(String word) {
+            this.recordWord(WORD_REPEATED, word);
+        }
+
+        public void wordTooShort(String word) {
+            this.recordWord(WORD_TOO_SHORT, word);
+        }
+
+        private void recordWord(byte type, String word) {
+            byte[] bytes = word.getBytes(StandardCharsets.UTF_8);
+            int length = EventJournal.getWordLength(bytes);
+            synchronized (EventJournal.this) {
+                if (!_closed) {
+                    ByteBuffer event = EventJournal.this.startEvent(_roundId, 1 + length);
+                    event.put((byte) length);
+                    event.put(bytes, 0, length);
+                    EventJournal.this.commitEvent(type);
+                }
+            }
+        }
+
+        public void scoreChanged(int score) {
+            _score = score;
+        }
+
+        public void timeChanged(int secondsRemaining) {
+            //Ticks are not recorded, since every event has its own time.
+        }
+
+        public void roundOver() {
+            this.recordScore(ROUND_OVER);
+        }
+
+        public void roundStopped() {
+            this.recordScore(ROUND_STOPPED);
+        }
+
+        private void recordScore(byte type) {
+            synchronized (EventJournal.this) {
+                if (!_closed) {
+                    EventJournal.this.startEvent(_roundId, Integer.BYTES).putInt(_score);
+                    EventJournal.this.commitEvent(type);
+                }
+            }
+        }
+    }
+
+    /**
+     * Flusher Class
+     * <p>
+     * The Flusher class is run by the flusher thread. It forces the journal to disk every FLUSH_MILLIS until the
+     * journal is closed.
+     **/
+
+    private class Flusher implements Runnable {
+        public void run() {
+            try {
+                while (!Thread.currentThread().isInterrupted()) {
+                    Thread.sleep(FLUSH_MILLIS);
+                    EventJournal.this.flush();
+                }
+            } catch (InterruptedException ex) {
+                //The journal was closed.
+            }
+        }
+    }
+
+    /**
+     * Closer Class
+     * <p>
+     * The Closer class is run when the JVM exits, to force the last events of the shared journal to disk.
+     **/
+
+    private static class Closer implements Runnable {
+        private final EventJournal _journal;
+
+        Closer(EventJournal journal) {
+            _journal = journal;
+        }
+
+        public void run() {
+            try {
+                _journal.close();
+            } catch (IOException ex) {
+                System.out.println(ex.toString());
+            }
+        }
+    }
+
+    /**
+     * Tail Class
+     * <p>
+     * The Tail class reads an existing journal to find where the next event goes and which round ID comes next.
+     **/
+
+    private static class Tail implements Visitor {
+        private int _chunkBytes;
+        private int _lastRoundId = -1;
+        private long _end;
+
+        public void journalOpened(int chunkBytes) {
+            _chunkBytes = chunkBytes;
+        }
+
+        public void roundStarted(int roundId, long time, PackedBoard board) {
+            _lastRoundId = Math.max(_lastRoundId, roundId);
+        }
+
+        public void wordSubmitted(int roundId, long time, String word, boolean valid, int points) {
+        }
+
+        public void wordRepeated(int roundId, long time, String word) {
+        }
+
+        public void wordTooShort(int roundId, long time, String word) {
+        }
+
+        public void roundOver(int roundId, long time, int score) {
+        }
+
+        public void roundStopped(int roundId, long time, int score) {
+        }
+
+        public void journalEnded(long end) {
+            _end = end;
+        }
+    }
+}
@@ -7,28 +7,26 @@ import javafx.event.EventHandler;
 import javafx.scene.layout.Pane;
 import javafx.util.Duration;
 
-import java.io.IOException;
-
 /**
  * Game Class
  * <p>
- * The Game class instantiates an instance of the Pane Organizer, DictTrie, LineReader, Wordlist, and GameBoard classes
- * and stores each instance in a private variable. This allows the game to pass the required references to each class,
- * keep track of the current score, and ensure all components of the game freeze when the game is over. Additionally,
- * the Game class has a Timer private inner class, to keep track of the time elapsed since instantiation. To display
- * the score and time elapsed, the Game has its own Visualizer.
+ * The Game class connects a Round, which plays the game without any graphics, to the JavaFX visualizers. It
+ * instantiates the Pane Organizer, starts a new Round, and creates the GameBoardVis, WordListVis and GameInfoVis,
+ * storing each instance in a private variable. The Game listens to the Round so that the visualizers show every word
+ * that was submitted, the current score, and the time remaining, and freezes all components of the game when the
+ * Round is over. Additionally, the Game class has a Timer private inner class, which uses a JavaFX Timeline to tick
+ * the Round once a second.
  **/
 
 class Game {
 
-    private static App _app;
-    private static PaneOrganizer _pane;
-    private static DictTrie _trie;
-    private static GameBoard _gameBoard;
-    private static WordList _wordlist;
-    private static GameInfoVis _vis;
-    private static Timer _timer;
-    private int _score;
+    private App _app;
+    private PaneOrganizer _pane;
+    private Round _round;
+    private GameBoardVis _boardVis;
+    private WordListVis _wordlistVis;
+    private GameInfoVis _vis;
+    private Timer _timer;
 
      /*
     *       The Game() constructor initializes all of its private variables and starts the Game.
@@ -40,27 +38,32 @@ class Game {
 
     Game(App app, int dimension) {
         _app = app;
-        _score = 0;
 
         //Create PaneOrganizer
         _pane = new PaneOrganizer(this);
 
-        //Create GameBoard
-        _gameBoard = new GameBoard(dimension, _pane.getGamePane());
+        //Create the Round, which takes a GameBoard that was already rolled and solved from the shared BoardPool.
+        _round = new Round(dimension);
 
-        //Create and fill Dictionary
-        _trie = new DictTrie();
-        this.fillDict();
+        //Record the Round if a journal was configured.
+        EventJournal journal = EventJournal.get();
+        if (journal != null) {
+            journal.record(_round);
+        }
 
-        //Create Wordlist
-        _wordlist = new WordList(_trie, _gameBoard, dimension, _pane.getWordPane(), this);
+        //Graphics, pass panes to visualizers.
+        _boardVis = new GameBoardVis(_pane.getGamePane(), dimension, _round.getDictionary());
+        _boardVis.displayLetters(_round.getGameBoard().getVertices());
+        _wordlistVis = new WordListVis(_pane.getWordPane(), _round, _boardVis);
 
         //Create GameInfoVis and set welcome instructions.
         _vis = new GameInfoVis(_pane.getBottomPane());
         _vis.displayInstructions();
 
-        //Create a Timer and start it
-        _timer = new Timer(_vis);
+        //Keep the visualizers up to date, then create a Timer and start the Round.
+        _round.addListener(new VisUpdater());
+        _timer = new Timer();
+        _round.start(_timer);
     }
 
     /*
@@ -77,48 +80,18 @@ class Game {
     }
 
     /*
-   *        The awardPoints() method takes in a string and awards points based on the length of the string.
-   *   It then calculates the new score and calls the GameInfoVis to update the label displaying the score.
-   *
-   *   Input: word - a valid word being added to the word list (must be more three or more letters).
-   *   Output: nothing.
-   */
-    void awardPoints(String word) {
-        int points = (word.length() - 2);
-        _score += points;
-        _vis.updateScoreLabel(_score);
-
-    }
-
-    /*
-    *       The fillDict() method creates a new Line Reader and uses it to fill the dictionary with its contents.
-    *
-    *   Input: nothing.
-    *   Output: nothing.
-    */
-
-    private void fillDict() {
-        LineReader reader = new LineReader(_trie);
-        try {
-            reader.addToDict();
-        } catch (IOException ex) {
-            System.out.println(ex.toString());
-        }
-    }
-
-    /*
-    *       The newGame() method clears deselects all the BoggleSquares on the GameBoard,
-    *   clears the display showing the currently selected word, prevents the user from
-    *   interacting with the displays, and stops the timeline.
+    *       The newGame() method stops the current Round (and its timeline), deselects all the BoggleSquares on the
+    *   GameBoard, clears the display showing the currently selected word, and prevents the user from interacting
+    *   with the displays.
     *
     *   Input: nothing.
     *   Output: nothing.
     * */
 
     private void newGame() {
-        _timer.stopTimeline();
-        _gameBoard.gameOver();
-        _wordlist.gameOver();
+        _round.stop();
+        _boardVis.gameOver();
+        _wordlistVis.gameOver();
 
     }
 
@@ -132,8 +105,8 @@ class Game {
     * */
 
     private void gameOver() {
-        _gameBoard.gameOver();
-        _wordlist.gameOver();
+        _boardVis.gameOver();
+        _wordlistVis.gameOver();
         _vis.gameOver();
     }
 
@@ -149,47 +122,97 @@ class Game {
     }
 
     /**
-     * Timer Class
+     * VisUpdater Class
      * <p>
-     * The Timer class creates a TimeLine playing a keyframe of one second that uses the private inner class
-     * TimerUpdater that runs for three minutes and displays the seconds remaining as well a warning messages when
-     * user has either two minutes or one minute left.
+     * The VisUpdater class listens to the Round and updates the visualizers: it adds submitted words to the
+     * WordListVis, updates the score and time remaining labels, displays warning messages when the user has either two
+     * minutes or one minute left, and freezes the game when the time is up.
      **/
-    private class Timer {
-        private Timeline _timeline;
-        private final GameInfoVis _vis;
 
-        private Timer(GameInfoVis vis) {
-            _vis = vis;
-            this.setUpTimeLine();
+    private class VisUpdater implements RoundListener {
+
+        public void wordSubmitted(String word, boolean valid, int points) {
+            _wordlistVis.addWord(word, valid);
         }
 
-        void stopTimeline() {
-            _timeline.stop();
+        public void wordRepeated(String word) {
+            //Repeated words are already in the WordListVis.
         }
 
-        /*
-        *       The getVis() method returns the Game's GameInfoDisplay so that the TimerUpdater can update the Time
-        *   Remaining label.
-        *
-        *   Input: nothing.
-        *   Output: _vis -> the GameInfoVis stored in the Game's _vis variable.
-        * */
+        public void wordTooShort(String word) {
+            //Words too short to score are not shown.
+        }
 
-        GameInfoVis getVis() {
-            return _vis;
+        public void scoreChanged(int score) {
+            _vis.updateScoreLabel(score);
+        }
+
+        public void timeChanged(int secondsRemaining) {
+            int min = (secondsRemaining / 60);
+            int sec = (secondsRemaining % 60);
+
+            //Display warning message telling the user when they have either two minutes or one minute left.
+            if (sec == 0) {
+                if (min == 2) {
+                    _vis.setInfoText("Two minutes left!", "-fx-font: 20px Helvetica;\n");
+                } else if (min == 1) {
+                    _vis.setInfoText("One minute left!", "-fx-font: 20px Helvetica;\n");
+                }
+            }
+
+            if ((sec == 50) && (min <= 1)) {
+                _vis.setInfoText(null, null);
+            }
+
+            //Display seconds remaining.
+            StringBuilder str = new StringBuilder();
+            str.append("Time Remaining:  ");
+            str.append(min);
+            str.append(":");
+            if (sec < 10) {
+                str.append(0);
+            }
+            str.append(sec);
+            _vis.updateTimerLabel(str.toString());
+        }
+
+        public void roundOver() {
+            _vis.updateTimerLabel("Time's up!");
+            Game.this.gameOver();
+        }
+
+        public void roundStopped() {
+            //The round is only stopped by newGame(), which updates the visualizers itself.
+        }
+    }
+
+    /**
+     * Timer Class
+     * <p>
+     * The Timer class is the RoundTimer used by the JavaFX game. It creates a TimeLine playing a keyframe of one
+     * second that uses the private inner class TimerUpdater to tick the Round, which runs until the Round stops it.
+     **/
+    private class Timer implements RoundTimer {
+        private Timeline _timeline;
+
+        public void start(Round round) {
+            this.setUpTimeLine(round);
+        }
+
+        public void stop() {
+            _timeline.stop();
         }
 
         /*
-        *       The setUpTimeLine() method creates a new KeyFrame with a TimerUpdater that updates the KeyFrame
-        *   every second, then plays the timeline until the TimerUpdater stops it.
+        *       The setUpTimeLine() method creates a new KeyFrame with a TimerUpdater that ticks the Round every
+        *   second, then plays the timeline until the Round stops it.
         *
-        *   Input: nothing.
+        *   Input: round - the Round to be ticked.
         *   Output: nothing.
         * */
-        private void setUpTimeLine() {
+        private void setUpTimeLine(Round round) {
 
-            KeyFrame kf = new KeyFrame(Duration.seconds(1), new TimerUpdater());
+            KeyFrame kf = new KeyFrame(Duration.seconds(1), new TimerUpdater(round));
             _timeline = new Timeline(kf);
             _timeline.setCycleCount(Timeline.INDEFINITE);
             _timeline.play();
@@ -199,50 +222,18 @@ class Game {
         /**
          * TimerUpdater Class
          * <p>
-         * The TimerUpdater class ensures the TimeLine plays for three minutes, and calls the GameInfoVis to update
-         * the seconds remaining label as well a warning messages when user has either two minutes or one minute left.
+         * The TimerUpdater class ticks the Round every time the KeyFrame finishes.
          **/
 
         private class TimerUpdater implements EventHandler<ActionEvent> {
+            private final Round _round;
 
-            private int _secondsRemaining = 180;
+            TimerUpdater(Round round) {
+                _round = round;
+            }
 
             public void handle(ActionEvent event) {
-                if (_secondsRemaining > 0) {
-                    _secondsRemaining--;
-
-                    int min = (_secondsRemaining / 60);
-                    int sec = (_secondsRemaining % 60);
-
-                    //Display warning message telling the user when they have either two minutes or one minute left.
-                    if (sec == 0) {
-                        if (min == 2) {
-                            _vis.setInfoText("Two minutes left!", "-fx-font: 20px Helvetica;\n");
-                        } else if (min == 1) {
-                            _vis.setInfoText("One minute left!", "-fx-font: 20px Helvetica;\n");
-                        }
-                    }
-
-                    if ((sec == 50) && (min <= 1)) {
-                        _vis.setInfoText(null, null);
-                    }
-
-                    //Display seconds remaining.
-                    StringBuilder str = new StringBuilder();
-                    str.append("Time Remaining:  ");
-                    str.append(min);
-                    str.append(":");
-                    if (sec < 10) {
-                        str.append(0);
-                    }
-                    str.append(sec);
-                    Timer.this.getVis().updateTimerLabel(str.toString());
-                } else {
-                    //Time's up!
-                    _timeline.stop();
-                    Timer.this.getVis().updateTimerLabel("Time's up!");
-                    Game.this.gameOver();
-                }
+                _round.tick();
             }
         }
     }
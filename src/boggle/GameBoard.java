@@ -1,57 +1,46 @@
 package boggle;
 
-import javafx.scene.layout.GridPane;
-
-import java.util.HashMap;
-
 /**
  * GameBoard Class
  * <p>
- * The GameBoard class represents the logical abstraction of the the GameBoard. It is responsible for rolling the 'die'--
- * which are represented by the class Dice. After a die is rolled, if it lands on a letter that has appeared more than 4 times
- * on the board, it will be rolled until it lands on a valid letter. The GameBoard class also sets each vertex's
- * references to it's neighbors. Once the GameBoard has created all the vertices and set their neighbors, it creates
- * the GameBoard visualizer which maintains the same letters for the duration of the game.
+ * The GameBoard class represents the logical abstraction of the the GameBoard. Its letters are rolled by a
+ * BoardGenerator, which rolls the 'die'-- represented by the class Dice -- and re-rolls a die if it lands on a letter
+ * that has already appeared 4 times on the board. The GameBoard class creates a Vertex for every letter and sets each
+ * vertex's references to it's neighbors. The GameBoard does not draw itself, so it can be created without JavaFX; the
+ * Game creates a GameBoardVis to display its vertices.
  **/
 
 class GameBoard {
     private final Vertex[][] _vertices;
     private final int _dim;
-    private final GameBoardVis _vis;
-    private static Dice _dice;
+    private final PackedBoard _packed;
 
     /*
-    *       The constructor for the GameBoard initializes its private variables, creates the vertices representing each
-    *  letter on the board, and displays the vertices by calling the visualizer's displayLetters() method.
+    *       The constructor for the GameBoard rolls a new board of the inputted dimension with a BoardGenerator.
     *
     *  Input: dimension - the dimension of the GameBoard for (immutable)
-    *         pane - the GridPane used to hold the visual representation of the GameBoard
     *  Output: nothing.
     **/
 
-    GameBoard(int dimension, GridPane pane) {
-        _dim = dimension;
-        _vertices = new Vertex[_dim][_dim];
-        _dice = new Dice(dimension);
-
-        //Create Data
-        this.createVertices();
-
-        //Graphics, pass pane to visualizer.
-        _vis = new GameBoardVis(pane, _dim);
-        _vis.displayLetters(_vertices);
+    GameBoard(int dimension) {
+        this(new BoardGenerator().nextBoard(dimension));
     }
 
     /*
-    *       The gameOver() method disables the GameBoard's visualizer so that the user can no longer select
-    *  words on a mouse drag.
+    *       The constructor for the GameBoard initializes its private variables and creates the vertices representing
+    *  each letter on an already generated board (such as one from a seeded BoardGenerator).
     *
-    *  Input: nothing.
+    *  Input: board - the letters of the GameBoard.
     *  Output: nothing.
     **/
 
-    void gameOver() {
-        _vis.gameOver();
+    GameBoard(PackedBoard board) {
+        _dim = board.getDim();
+        _vertices = new Vertex[_dim][_dim];
+        _packed = board;
+
+        //Create Data
+        this.createVertices();
     }
 
     /*
@@ -66,77 +55,35 @@ class GameBoard {
     }
 
     /*
-    *       The getGBVisualizer() method is a getter method for the visualizer of the GameBoard.
+    *       The getPackedBoard() method returns the letters of the GameBoard packed into a PackedBoard, which can be
+    *  searched without allocating any objects.
     *
     *  Input: nothing.
-    *  Output: the visualizer for the GameBoard
-    **/
-
-    GameBoardVis getGBVisualizer() {
-        return _vis;
-    }
-
-
-    /*
-    *       If letter is q, make sure that there is at least on u in the vertex's neighbors.
-    *
-    *  Input:  Vertex
-    *  Output: Nothing
-    **/
-
-    private void checkForQ(Vertex v) {
-        if (v.getChar() == 'q') {
-            Vertex neighbor = v.getNeighbors().iterator().next();
-            neighbor.setChar('u');
-        }
-    }
-
-     /*
-    *       The addLetter() method uses the letterFrequencies array and the Dice class to re-roll a die if it has
-    *  already appeared 4 times. It randomly draws a die from the dice upon called setNextDie() and rolls it, then
-    *  sets vertex's char variable to whatever was rolled.
-    *
-    *  Input:  letterFrequencies - the an array, with each index corresponding to a lowercase letter's position
-    *          in the alphabet.
-    *          vertex - the vertex to be assigned a letter.
-    *  Output: nothing.
+    *  Output: the PackedBoard for the GameBoard.
     **/
 
-    private void addLetter(Vertex vertex, HashMap<Character, Integer> freq) {
-        char c;
-        if (_dice.hasNextDie()) {
-            _dice.setNextDie();
-            c = _dice.rollCurDie();
-            while (freq.getOrDefault(c, 0) == 4) {
-                c = _dice.rollCurDie();
-            }
-            freq.put(c, freq.getOrDefault(c, 0) + 1);
-            vertex.setChar(c);
-        }
+    PackedBoard getPackedBoard() {
+        return _packed;
     }
 
     /*
-    *       The createVertices() method first creates the frequency array then instantiates all of the vertices
-    *  on the gameBoard, storing them in the _vertices variable. It then adds letters, sets each vertex's neighbor,
-    *  and checks for q to add an instance of u as its neighbor.
+    *       The createVertices() method instantiates all of the vertices on the gameBoard with the tiles of the
+    *  PackedBoard, storing them in the _vertices variable. It then sets each vertex's neighbors.
     *
     *  Input: nothing.
     *  Output: nothing.
     **/
     private void createVertices() {
-        HashMap<Character, Integer> freq = new HashMap<>();
-
-        for (int col = 0; col < _dim; col++) {
-            for (int row = 0; row < _dim; row++) {
-                _vertices[row][col] = new Vertex(row, col);
-                this.addLetter(_vertices[row][col], freq);
+        for (int row = 0; row < _dim; row++) {
+            for (int col = 0; col < _dim; col++) {
+                _vertices[row][col] = new Vertex(row, col, _dim);
+                _vertices[row][col].setTile(_packed.getTile((row * _dim) + col));
             }
         }
 
         for (int col = 0; col < _dim; col++) {
             for (int row = 0; row < _dim; row++) {
                 this.setNeighbors(_vertices[row][col], row, col);
-                this.checkForQ(_vertices[row][col]);
             }
         }
     }
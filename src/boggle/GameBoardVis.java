@@ -29,15 +29,24 @@ import java.util.Stack;
  * WordListVis class (there is a two way reference), so that the WordListVis' listeners for the Delete, Clear, and 
  * Submit buttons can call the the GameBoardVis and the GameBoardVis can call the WordListVis to update the word label 
  * indicating which letters were selected (in order).
+ * <p>
+ * The GameBoardVis also walks the dictionary while the user drags: the _nodes stack holds the dictionary node reached
+ * by the selected squares, one entry per square, so selecting a square only follows the edges for its own letters from
+ * the node on top of the stack, and deleting a square just pops the stack. A square whose letters lead to no node is
+ * highlighted in pink, so the user sees right away that no word starts with the selected letters, and when the
+ * selected letters are submitted, checking if they form a word is a single look at the node on top of the stack.
  **/
 
 class GameBoardVis {
     private final GridPane _pane;
     private final BoggleSquare[][] _squares;
     private final int _dim;
+    private final Lexicon _trie;
+    private final int[] _nodes;
     private StringBuilder _word;
     private Boolean _letterlock;
     private Stack<BoggleSquare> _selected;
+    private final ArrayList<BoggleSquare> _hinted;
     private WordListVis _wordlistVis;
 
      /*
@@ -47,17 +56,22 @@ class GameBoardVis {
     *
     *   Input:   pane -> the instance GridPane located on the left side of the PaneOrganizer's BorderPane.
     *            dimension -> the dimension of the current game.
+    *            trie -> the dictionary the selected letters are checked against.
     *   Output:  nothing.
     */
 
-    GameBoardVis(GridPane pane, int dimension) {
+    GameBoardVis(GridPane pane, int dimension, Lexicon trie) {
         _pane = pane;
         _dim = dimension;
         _squares = new BoggleSquare[_dim][_dim];
+        _trie = trie;
+        _nodes = new int[(_dim * _dim) + 1];
+        _nodes[0] = Lexicon.ROOT;
         _word = new StringBuilder();
 
         _letterlock = false;
         _selected = new Stack<>();
+        _hinted = new ArrayList<>();
 
         this.createGrid();
     }
@@ -90,6 +104,7 @@ class GameBoardVis {
     */
 
     void clearAllSelectedLetters() {
+        this.clearHint();
 
         while (_selected.size() > 0){
             _selected.pop().unhighlight();
@@ -101,7 +116,8 @@ class GameBoardVis {
 
     /*
     *       The clearLastSelectedLetter() method deselects the most recently selected BoggleSquare by un-highlighting
-    *   it, resetting the _word, and _selected variables, and updating the word label. Since the
+    *   it, resetting the _word, and _selected variables (which also pops its node off the _nodes stack), and
+    *   updating the word label. Since the
     *   BoggleSquares are added to the _selected Stack upon being added, the user can continuously clear the last
     *   select BoggleSquare by popping from the Stack until there are no squares selected.
     *
@@ -113,7 +129,7 @@ class GameBoardVis {
         if (!_selected.empty() && _word.length() > 0) {
             BoggleSquare last = _selected.pop();
             last.unhighlight();
-            _word.deleteCharAt(_word.length() - 1);
+            _word.setLength(_word.length() - last.getTile().length());
             _word.trimToSize();
             _wordlistVis.updateWordLabel(_word.toString());
         }
@@ -138,6 +154,37 @@ class GameBoardVis {
 
     }
 
+    /*
+    *       The showHint() method deselects all squares and highlights the squares that form a hinted word, until the
+    *   next square is selected.
+    *
+    *   Input: path - the cells (row * dim + col) that form the hinted word.
+    *   Output:  nothing.
+    */
+
+    void showHint(int[] path) {
+        this.clearAllSelectedLetters();
+        for (int cell : path) {
+            BoggleSquare square = _squares[cell / _dim][cell % _dim];
+            square.showHint();
+            _hinted.add(square);
+        }
+    }
+
+    /*
+    *       The clearHint() method un-highlights the squares of the last hint.
+    *
+    *   Input: nothing.
+    *   Output:  nothing.
+    */
+
+    private void clearHint() {
+        for (BoggleSquare square : _hinted) {
+            square.unhighlight();
+        }
+        _hinted.clear();
+    }
+
     /*
     *       The gameOver() method deselects all squares on the GameBoard and prevents the GameBoard from receiving
     *   further input with the _letterlock Boolean.
@@ -167,6 +214,15 @@ class GameBoardVis {
         return null;
     }
 
+    int getSelectedNode() {
+        return _nodes[_selected.size()];
+    }
+
+    Boolean isSelectedWord() {
+        int node = this.getSelectedNode();
+        return (node != Lexicon.NO_NODE) && _trie.isWord(node);
+    }
+
     void setLetterLock(Boolean bool) {
         _letterlock = bool;
     }
@@ -177,17 +233,27 @@ class GameBoardVis {
 
     /*
     *       The addCharHelper() updates the _word and _selected variables to keep track of when a
-    *   BoggleSquare has been selected. It also highlights the inputted square and updates the word label display
-    *   the word currently selected on the GameBoard.
+    *   BoggleSquare has been selected, and pushes the dictionary node reached by following the square's letters from
+    *   the node on top of the _nodes stack (once a prefix has no node, every longer one has none either). It also
+    *   highlights the inputted square, in pink if no word starts with the selected letters, and updates the word
+    *   label display the word currently selected on the GameBoard.
     *
     *   Input:   square - the BoggleSquare that was selected.
     *   Output:  nothing.
     */
 
     private void addCharHelper(BoggleSquare square) {
-        _word.append(square.getChar());
+        this.clearHint();
+        int node = _nodes[_selected.size()];
+        String tile = square.getTile();
+        for (int i = 0; (i < tile.length()) && (node != Lexicon.NO_NODE); i++) {
+            node = _trie.getChild(node, tile.charAt(i));
+        }
+
+        _word.append(tile);
         _selected.push(square);
-        square.highlight();
+        _nodes[_selected.size()] = node;
+        square.highlight(node != Lexicon.NO_NODE);
         _wordlistVis.updateWordLabel(_word.toString());
     }
 
@@ -240,7 +306,7 @@ class GameBoardVis {
      **/
 
     private class BoggleSquare {
-        private final char _c;
+        private final String _tile;
         private final StackPane _pane;
         private final Rectangle _background;
         private final Label _label;
@@ -260,8 +326,8 @@ class GameBoardVis {
             _vert = vert;
             _neighbors = new ArrayList<>();
 
-            _c = _vert.getChar();
-            _label.setText(Character.toString(_c));
+            _tile = _vert.getTile();
+            _label.setText((_tile.length() > 1) ? "Qu" : _tile);
 
             this.setupEventHandler();
             _pane.getChildren().addAll(_background, _label);
@@ -280,16 +346,20 @@ class GameBoardVis {
             return _neighbors;
         }
 
-        char getChar() {
-            return _c;
+        String getTile() {
+            return _tile;
         }
 
         StackPane getPane() {
             return _pane;
         }
 
-        void highlight() {
-            _background.setFill(Color.LIGHTBLUE);
+        void highlight(boolean livePrefix) {
+            _background.setFill(livePrefix ? Color.LIGHTBLUE : Color.LIGHTPINK);
+        }
+
+        void showHint() {
+            _background.setFill(Color.GOLD);
         }
 
         void unhighlight() {
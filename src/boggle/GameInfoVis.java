@@ -15,10 +15,10 @@ import javafx.scene.text.TextAlignment;
  **/
 
 class GameInfoVis {
-    private static HBox _pane;
-    private static Label _timer;
-    private static Label _score;
-    private static Label _info;
+    private HBox _pane;
+    private Label _timer;
+    private Label _score;
+    private Label _info;
 
     /*
     *       The constructor for the GameInfoVis sets up the bottom pane of the window, where the score and time remaining
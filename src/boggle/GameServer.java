@@ -0,0 +1,220 @@
+package boggle;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * GameServer Class
+ * <p>
+ * The GameServer class hosts many games at once, each in its own Room, without any graphics. Every Room plays its own
+ * Round, but all of them share one read-only dictionary, so a new Room only costs a GameBoard, its AnswerSet and a
+ * WordList. Words submitted by players are checked on the server's submission executor, which runs every submission
+ * on its own virtual thread when the JVM supports them (Java 21 and later) and on a fixed pool of platform threads
+ * otherwise. Rather than giving every Room its own timer, a single scheduler thread ticks every open Room once a
+ * second and closes the Rooms whose time is up, so the number of threads does not grow with the number of Rooms.
+ **/
+
+class GameServer {
+    private final Lexicon _dictionary;
+    private final ConcurrentHashMap<Long, Room> _rooms;
+    private final AtomicLong _nextId;
+    private final ExecutorService _submissions;
+    private final ScheduledExecutorService _scheduler;
+    private final ScheduledFuture<?> _ticker;
+
+    /*
+    *       The GameServer() constructor creates the submission executor and starts ticking the rooms.
+    *
+    *   Input:   dictionary - the Lexicon shared by every room.
+    *   Output:  nothing.
+    */
+
+    GameServer(Lexicon dictionary) {
+        _dictionary = dictionary;
+        _rooms = new ConcurrentHashMap<>();
+        _nextId = new AtomicLong();
+        _submissions = GameServer.newSubmissionExecutor();
+        _scheduler = Executors.newSingleThreadScheduledExecutor(new DaemonFactory());
+        _ticker = _scheduler.scheduleAtFixedRate(new Ticker(), 1, 1, TimeUnit.SECONDS);
+    }
+
+    /*
+    *       The newSubmissionExecutor() method returns an executor that starts a new virtual thread for every task.
+    *   Virtual threads are only available from Java 21, so the factory method is looked up by reflection; on older
+    *   JVMs a fixed pool with one thread per processor is used instead.
+    *
+    *   Input:   nothing.
+    *   Output:  the ExecutorService used to check submitted words.
+    */
+
+    private static ExecutorService newSubmissionExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException ex) {
+            return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), new DaemonFactory());
+        }
+    }
+
+    /*
+    *       The openRoom() method gets a new board from a BoardFilter and opens a Room to play it in. The Room's
+    *   timer starts straight away.
+    *
+    *   Input:   dimension - the dimension of the board.
+    *   Output:  the new Room.
+    */
+
+    Room openRoom(int dimension) {
+        Room room = new Room(_nextId.incrementAndGet(), new Round(_dictionary, dimension));
+        _rooms.put(room.getId(), room);
+        return room;
+    }
+
+    /*
+    *       The closeRoom() method stops the Round in a Room and removes it from the server.
+    *
+    *   Input:   id - the id of the Room.
+    *   Output:  nothing.
+    */
+
+    void closeRoom(long id) {
+        Room room = _rooms.remove(id);
+        if (room != null) {
+            room.close();
+        }
+    }
+
+    /*
+    *       The submit() method checks a submitted word on the submission executor.
+    *
+    *   Input:   id - the id of the Room the word was submitted in.
+    *            word - the submitted word.
+    *   Output:  a Future holding the Room's score after the word was checked. The Future fails with an
+    *            IllegalStateException if the Room is not open.
+    */
+
+    Future<Integer> submit(long id, String word) {
+        return _submissions.submit(new Submission(id, word));
+    }
+
+    /*
+    *       The shutdown() method stops ticking the rooms, stops accepting submissions, and closes every Room, even
+    *   if the listeners of some of them fail.
+    *
+    *   Input:   nothing.
+    *   Output:  nothing.
+    */
+
+    void shutdown() {
+        _ticker.cancel(false);
+        _scheduler.shutdown();
+        _submissions.shutdown();
+        for (Long id : _rooms.keySet()) {
+            Room room = _rooms.remove(id);
+            if (room != null) {
+                GameServer.closeQuietly(room);
+            }
+        }
+    }
+
+    /*
+    *       The closeQuietly() method closes a Room that has already been removed from the server. Closing a Room
+    *   tells its listeners that the Round was stopped, and a listener that fails must not stop the server from
+    *   closing the other Rooms, so the failure is only printed.
+    *
+    *   Input:   room - the Room to be closed.
+    *   Output:  nothing.
+    */
+
+    private static void closeQuietly(Room room) {
+        try {
+            room.close();
+        } catch (RuntimeException ex) {
+            System.out.println(ex.toString());
+        }
+    }
+
+    /*
+    *                                                Getters
+    *
+    */
+
+    Room getRoom(long id) {
+        return _rooms.get(id);
+    }
+
+    int getNumRooms() {
+        return _rooms.size();
+    }
+
+    /**
+     * Submission Class
+     * <p>
+     * The Submission class checks one submitted word in a Room.
+     **/
+
+    private class Submission implements Callable<Integer> {
+        private final long _id;
+        private final String _word;
+
+        Submission(long id, String word) {
+            _id = id;
+            _word = word;
+        }
+
+        public Integer call() {
+            Room room = _rooms.get(_id);
+            if (room == null) {
+                throw new IllegalStateException("Room " + _id + " is not open");
+            }
+            return room.submit(_word);
+        }
+    }
+
+    /**
+     * Ticker Class
+     * <p>
+     * The Ticker class is run by the scheduler once a second. It ticks every open Room and removes the Rooms whose
+     * Round is over. A Room whose listeners fail is closed so that it cannot stop the other Rooms from being ticked.
+     **/
+
+    private class Ticker implements Runnable {
+        public void run() {
+            for (Room room : _rooms.values()) {
+                try {
+                    if (room.tick()) {
+                        _rooms.remove(room.getId());
+                    }
+                } catch (RuntimeException ex) {
+                    System.out.println(ex.toString());
+                    _rooms.remove(room.getId());
+                    GameServer.closeQuietly(room);
+                }
+            }
+        }
+    }
+
+    /**
+     * DaemonFactory Class
+     * <p>
+     * The DaemonFactory class creates the server's platform threads as daemon threads, so that they do not keep the
+     * JVM running on their own.
+     **/
+
+    private static class DaemonFactory implements ThreadFactory {
+        public Thread newThread(Runnable task) {
+            Thread thread = new Thread(task, "game-server");
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package boggle;
+
+/**
+ * HintEngine Class
+ * <p>
+ * The HintEngine class gives players hints: the best word on the board they have not found yet, along with the path of
+ * cells that forms it so the GameBoardVis can highlight it. No searching is needed, since the BoardSolver already found
+ * every word on the board. When the HintEngine is created, the words of the AnswerSet that are worth points are put
+ * into one bucket per point value (a bucket queue), and the buckets are laid out from the most points to the fewest,
+ * so the words are ordered best first in a single array.
+ * <p>
+ * A HintEngine never changes once it is created, so any number of sessions playing the same board can share it. Each
+ * session only keeps a cursor into the array: asking for a hint moves the cursor past the words the session already
+ * found (a bit test by word ID in its WordList) and returns the word it stops on. A found word stays found, so the
+ * cursor never moves back and each word is skipped at most once per session, which makes each hint constant time on
+ * average no matter how many words are on the board.
+ **/
+
+class HintEngine {
+    static final int END = -1;
+
+    private final AnswerSet _answers;
+    private final String[] _words;
+    private final int[] _ids;
+    private final int[] _points;
+
+    /*
+    *       The HintEngine() constructor sorts the words of the AnswerSet that are worth points from the most points to
+    *   the fewest, keeping the order of the AnswerSet within each point value.
+    *
+    *   Input:   trie - the dictionary the word IDs come from.
+    *            answers - every word on the board.
+    *   Output:  nothing.
+    */
+
+    HintEngine(Lexicon trie, AnswerSet answers) {
+        _answers = answers;
+
+        int maxPoints = 0;
+        int[] bucketSizes = new int[1];
+        for (String word : answers.getWords()) {
+            int points = Round.pointsFor(word);
+            if (points >= bucketSizes.length) {
+                int[] larger = new int[points + 1];
+                System.arraycopy(bucketSizes, 0, larger, 0, bucketSizes.length);
+                bucketSizes = larger;
+            }
+            bucketSizes[points]++;
+            maxPoints = Math.max(maxPoints, points);
+        }
+
+        //Lay the buckets out from the most points to the fewest, leaving out the words worth nothing.
+        int[] bucketStart = new int[maxPoints + 1];
+        int numWords = 0;
+        for (int points = maxPoints; points > 0; points--) {
+            bucketStart[points] = numWords;
+            numWords += bucketSizes[points];
+        }
+
+        _words = new String[numWords];
+        _ids = new int[numWords];
+        _points = new int[numWords];
+        for (String word : answers.getWords()) {
+            int points = Round.pointsFor(word);
+            if (points > 0) {
+                int i = bucketStart[points];
+                bucketStart[points]++;
+                _words[i] = word;
+                _ids[i] = trie.getWordId(word);
+                _points[i] = points;
+            }
+        }
+    }
+
+    /*
+    *       The next() method moves a session's cursor to the best word the session has not found yet.
+    *
+    *   Input:   cursor - the session's cursor (0 for a new session, then the last value returned).
+    *            found - the words the session already found.
+    *   Output:  the position of the best word not in found, or END if every word was found.
+    */
+
+    int next(int cursor, WordList found) {
+        if (cursor == END) {
+            return END;
+        }
+        while ((cursor < _ids.length) && found.containsId(_ids[cursor])) {
+            cursor++;
+        }
+        return (cursor < _ids.length) ? cursor : END;
+    }
+
+    /*
+    *                                                Getters
+    *
+    *   Input:   i - a position returned by next().
+    */
+
+    String getWord(int i) {
+        return _words[i];
+    }
+
+    int[] getPath(int i) {
+        return _answers.getPath(_words[i]);
+    }
+
+    int getPoints(int i) {
+        return _points[i];
+    }
+
+    int size() {
+        return _words.length;
+    }
+
+    /**
+     * Hint Class
+     * <p>
+     * The Hint class is a single hint: a word that has not been found yet, the points it is worth, and the cells
+     * (row * dim + col) that form it.
+     **/
+
+    static class Hint {
+        private final String _word;
+        private final int _points;
+        private final int[] _path;
+
+        Hint(String word, int points, int[] path) {
+            _word = word;
+            _points = points;
+            _path = path;
+        }
+
+        String getWord() {
+            return _word;
+        }
+
+        int getPoints() {
+            return _points;
+        }
+
+        int[] getPath() {
+            return _path;
+        }
+    }
+}
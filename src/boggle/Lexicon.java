@@ -0,0 +1,51 @@
+package boggle;
+
+/**
+ * Lexicon Interface
+ * <p>
+ * The Lexicon interface is the read-only view of a dictionary that the board search needs: checking if a whole word is
+ * in the dictionary, and walking the dictionary one letter at a time alongside the board. Nodes are represented by
+ * ints, starting from ROOT (the empty prefix). Stepping from a node with a letter gives the node for the longer
+ * prefix, or NO_NODE if no word in the dictionary starts with that prefix, so a search can stop as soon as it reaches
+ * a dead end. Both the DictTrie and the Dawg implement this interface.
+ * <p>
+ * Every word in a Lexicon also has a dense word ID from 0 up to getNumWords() - 1: its position in the alphabetical
+ * list of words (a DictTrie numbers words in the order they were added, which is the same thing for the sorted word
+ * list). IDs can be stored and compared in place of Strings, such as in bitsets of found words.
+ **/
+
+interface Lexicon {
+    int ROOT = 0;
+    int NO_NODE = -1;
+    int NO_WORD = -1;
+
+    /*
+    *       Returns true if the inputted string is a word in the dictionary.
+    */
+    Boolean containsWord(String word);
+
+    /*
+    *       Returns the node reached by following the letter c from node, or NO_NODE if there is none.
+    */
+    int getChild(int node, char c);
+
+    /*
+    *       Returns true if the prefix leading to node is a word in the dictionary.
+    */
+    boolean isWord(int node);
+
+    /*
+    *       Returns the ID of the inputted word, or NO_WORD if it is not in the dictionary.
+    */
+    int getWordId(CharSequence word);
+
+    /*
+    *       Returns the word with the inputted ID, or throws an IllegalArgumentException if there is none.
+    */
+    String getWord(int id);
+
+    /*
+    *       Returns the number of words in the dictionary.
+    */
+    int getNumWords();
+}
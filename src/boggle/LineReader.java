@@ -6,24 +6,24 @@ import java.io.*;
 /**
  * LineReader Class
  * <p>
- * The LineReader class is instantiated locally by the Game class to read the contents of the file
+ * The LineReader class is instantiated locally by the DictionaryService to read the contents of the file
  * "OpenEnglishWordList.txt". Because each word is separated by a new line, this class simply reads
- * one line and adds the line to the dictionary. The LineReader is passed a reference to the DictTrie
- * it should add words to.
+ * one line and adds the line to the dictionary. The LineReader is passed a reference to the WordSink (such as
+ * a DictTrie) it should add words to.
  **/
 
 class LineReader {
-    private static DictTrie _dict;
+    private final WordSink _dict;
 
     /*
     *       The LineReader() constructor creates a new LineReader that can add lines of a file
-    *   to the inputted DictTrie.
+    *   to the inputted WordSink.
     *
-    *   Input:  dictionary - the instance of DictTrie to be used during the lifetime of the LineReader.
+    *   Input:  dictionary - the WordSink to be used during the lifetime of the LineReader.
     *   Output: nothing.
     * */
 
-    LineReader(DictTrie dictionary) {
+    LineReader(WordSink dictionary) {
         _dict = dictionary;
     }
 
@@ -35,7 +35,7 @@ class LineReader {
     * */
 
     void addToDict() throws IOException {
-        InputStream input = FileReader.class.getResourceAsStream("/OpenEnglishWordList.txt");
+        InputStream input = LineReader.class.getResourceAsStream("/OpenEnglishWordList.txt");
         try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, "UTF-8"))) {
             String line = reader.readLine();
             while (line != null) {
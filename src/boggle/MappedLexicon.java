@@ -0,0 +1,183 @@
+package boggle;
+
+import java.nio.MappedByteBuffer;
+
+/**
+ * MappedLexicon Class
+ * <p>
+ * The MappedLexicon class is a dictionary that reads a compiled DictionaryFile in place through a MappedByteBuffer.
+ * Walking it reads ints directly out of the mapped file with absolute gets, so there is no parsing when it is loaded,
+ * no allocation while it is walked, and any number of threads can read it at once. Word IDs are computed from the word
+ * counts stored for each node, the same way as in the Dawg. See the DictionaryFile class for the layout of the file.
+ **/
+
+class MappedLexicon implements Lexicon {
+    private final MappedByteBuffer _buffer;
+    private final int _numNodes;
+    private final int _numEdges;
+    private final int _edgesOffset;
+    private final int _countsOffset;
+    private final int _flagsOffset;
+
+    /*
+    *       The MappedLexicon() constructor stores the mapped file and computes where each section starts. It is only
+    *   called by DictionaryFile.map(), which checks the header first.
+    *
+    *   Input:   buffer - the mapped dictionary file (little-endian).
+    *            numNodes, numEdges - the sizes read from the header.
+    *   Output:  nothing.
+    */
+
+    MappedLexicon(MappedByteBuffer buffer, int numNodes, int numEdges) {
+        _buffer = buffer;
+        _numNodes = numNodes;
+        _numEdges = numEdges;
+        _edgesOffset = DictionaryFile.HEADER_BYTES + ((numNodes + 1) * Integer.BYTES);
+        _countsOffset = _edgesOffset + (numEdges * Integer.BYTES);
+        _flagsOffset = _countsOffset + (numNodes * Integer.BYTES);
+    }
+
+    /*
+    *       The getChild() method scans the edges leaving a node (which are in alphabetical order) for the
+    *   inputted letter.
+    *
+    *   Input:   node - the node to step from.
+    *            c - the next letter of the prefix.
+    *   Output:  the node the edge leads to, or NO_NODE if there is no edge for c.
+    */
+
+    public int getChild(int node, char c) {
+        int index = c - 'a';
+        int start = _buffer.getInt(DictionaryFile.HEADER_BYTES + (node * Integer.BYTES));
+        int end = _buffer.getInt(DictionaryFile.HEADER_BYTES + ((node + 1) * Integer.BYTES));
+
+        for (int edge = start; edge < end; edge++) {
+            int packed = _buffer.getInt(_edgesOffset + (edge * Integer.BYTES));
+            int letter = packed & DictionaryFile.LETTER_MASK;
+            if (letter == index) {
+                return packed >>> DictionaryFile.LETTER_BITS;
+            } else if (letter > index) {
+                break;
+            }
+        }
+        return NO_NODE;
+    }
+
+    public boolean isWord(int node) {
+        return (_buffer.get(_flagsOffset + node) & DictionaryFile.FLAG_WORD) != 0;
+    }
+
+    /*
+    *       The containsWord() method follows the letters of the word from the root. The word is in the dictionary
+    *   if every letter has an edge and the node that is reached ends a word.
+    *
+    *   Input:   word - the string to be searched for.
+    *   Output:  a boolean indicating whether or not the word is in the dictionary.
+    */
+
+    public Boolean containsWord(String word) {
+        int node = ROOT;
+        for (int i = 0; (i < word.length()) && (node != NO_NODE); i++) {
+            node = this.getChild(node, word.charAt(i));
+        }
+        return (node != NO_NODE) && this.isWord(node);
+    }
+
+    /*
+    *       The getWordId() method follows the letters of the word from the root, counting the words that come before
+    *   it alphabetically: at every node, the prefix itself (if it is a word) and every word below an edge with an
+    *   earlier letter.
+    *
+    *   Input:   word - the word to find the ID of.
+    *   Output:  the ID of the word, or NO_WORD if it is not in the dictionary.
+    */
+
+    public int getWordId(CharSequence word) {
+        int node = ROOT;
+        int id = 0;
+
+        for (int i = 0; i < word.length(); i++) {
+            int index = word.charAt(i) - 'a';
+            if (this.isWord(node)) {
+                id++;
+            }
+            int next = NO_NODE;
+            int end = this.getEdgeStart(node + 1);
+            for (int edge = this.getEdgeStart(node); edge < end; edge++) {
+                int packed = _buffer.getInt(_edgesOffset + (edge * Integer.BYTES));
+                int letter = packed & DictionaryFile.LETTER_MASK;
+                if (letter < index) {
+                    id += this.getNumWordsFrom(packed >>> DictionaryFile.LETTER_BITS);
+                } else {
+                    if (letter == index) {
+                        next = packed >>> DictionaryFile.LETTER_BITS;
+                    }
+                    break;
+                }
+            }
+            if (next == NO_NODE) {
+                return NO_WORD;
+            }
+            node = next;
+        }
+        return this.isWord(node) ? id : NO_WORD;
+    }
+
+    /*
+    *       The getWord() method finds the word with the inputted ID by walking down from the root, at each node
+    *   skipping over the edges whose words all come before it.
+    *
+    *   Input:   id - a word ID.
+    *   Output:  the word with that ID.
+    *   Error:   IllegalArgumentException if there is no word with that ID.
+    */
+
+    public String getWord(int id) {
+        if ((id < 0) || (id >= this.getNumWords())) {
+            throw new IllegalArgumentException("No word with ID " + id);
+        }
+        StringBuilder word = new StringBuilder();
+        int node = ROOT;
+        int remaining = id;
+
+        while (true) {
+            if (this.isWord(node)) {
+                if (remaining == 0) {
+                    return word.toString();
+                }
+                remaining--;
+            }
+            int end = this.getEdgeStart(node + 1);
+            for (int edge = this.getEdgeStart(node); edge < end; edge++) {
+                int packed = _buffer.getInt(_edgesOffset + (edge * Integer.BYTES));
+                int count = this.getNumWordsFrom(packed >>> DictionaryFile.LETTER_BITS);
+                if (remaining < count) {
+                    word.append((char) ('a' + (packed & DictionaryFile.LETTER_MASK)));
+                    node = packed >>> DictionaryFile.LETTER_BITS;
+                    break;
+                }
+                remaining -= count;
+            }
+        }
+    }
+
+    public int getNumWords() {
+        return (_numNodes == 0) ? 0 : this.getNumWordsFrom(ROOT);
+    }
+
+    private int getEdgeStart(int node) {
+        return _buffer.getInt(DictionaryFile.HEADER_BYTES + (node * Integer.BYTES));
+    }
+
+    private int getNumWordsFrom(int node) {
+        return _buffer.getInt(_countsOffset + (node * Integer.BYTES));
+    }
+
+    int getNumNodes() {
+        return _numNodes;
+    }
+
+    int getNumEdges() {
+        return _numEdges;
+    }
+}
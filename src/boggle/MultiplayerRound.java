@@ -0,0 +1,319 @@
+package boggle;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+/**
+ * MultiplayerRound Class
+ * <p>
+ * The MultiplayerRound class is a single round in which any number of players submit words against the same GameBoard
+ * at the same time, scored the classic Boggle way: a word only scores for a player if no other player found it too.
+ * The board and its AnswerSet never change once the round is created, so when the round is created every word on the
+ * board is given a small index: its position in the sorted array of the words' dictionary IDs. Submissions then only
+ * need to update two arrays of atomic ints and longs, with no String hashing and no locks. Each player has their own
+ * bitset of found words (an AtomicLongArray with one bit per word on the board, set with compare-and-set, so adding a
+ * word never blocks another player), and the round counts the number of players who found each word in an
+ * AtomicIntegerArray, incremented the first time each player finds the word. When the round ends, the final scores
+ * are computed in one pass over the players' bitsets, skipping every word found by more than one player.
+ * <p>
+ * Submissions never share a lock or a counter with other players. Each player has their own count of submissions in
+ * progress, which a submission raises before it checks the volatile _over flag and lowers once its word is counted.
+ * finish() sets _over first and then waits for every player's count to drop to zero, so a submission either sees that
+ * the round is over and is turned away, or is waited for and counted before the final scores are computed. Only
+ * finish() itself is synchronized, so that the scores are computed once.
+ **/
+
+class MultiplayerRound {
+    private final Lexicon _trie;
+    private final GameBoard _gameBoard;
+    private final AnswerSet _answers;
+    private final int[] _answerIds;
+    private final int[] _answerPoints;
+    private final ConcurrentHashMap<String, Player> _players;
+    private final AtomicIntegerArray _wordCounts;
+    private final NewPlayer _newPlayer;
+    private final AtomicInteger _secondsRemaining;
+    private volatile boolean _over;
+    private HashMap<String, Integer> _finalScores;
+
+    /*
+    *       The MultiplayerRound() constructor finds every word on the inputted board up front, so that submissions
+    *   don't need to search the board.
+    *
+    *   Input:   trie - the dictionary used to check if words are valid.
+    *            gameBoard - the board every player plays on.
+    *   Output:  nothing.
+    */
+
+    MultiplayerRound(Lexicon trie, GameBoard gameBoard) {
+        _trie = trie;
+        _gameBoard = gameBoard;
+        _answers = new BoardSolver(trie).solve(gameBoard);
+        _answerIds = new int[_answers.size()];
+        int i = 0;
+        for (String word : _answers.getWords()) {
+            _answerIds[i] = trie.getWordId(word);
+            i++;
+        }
+        Arrays.sort(_answerIds);
+        _answerPoints = new int[_answerIds.length];
+        for (i = 0; i < _answerIds.length; i++) {
+            _answerPoints[i] = Round.pointsFor(trie.getWord(_answerIds[i]));
+        }
+        _players = new ConcurrentHashMap<>();
+        _wordCounts = new AtomicIntegerArray(_answerIds.length);
+        _newPlayer = new NewPlayer(_answerIds.length);
+        _secondsRemaining = new AtomicInteger(Round.ROUND_SECONDS);
+        _over = false;
+    }
+
+    /*
+    *       The join() method adds a player to the round. Joining twice has no effect, and does not allocate a second
+    *   Player.
+    *
+    *   Input:   playerId - the id of the player.
+    *   Output:  nothing.
+    */
+
+    void join(String playerId) {
+        _players.computeIfAbsent(playerId, _newPlayer);
+    }
+
+    /*
+    *       The getPlayer() method looks up a player who joined the round.
+    *
+    *   Input:   playerId - the id of the player.
+    *   Output:  the Player.
+    *   Error:   IllegalArgumentException if the player has not joined the round.
+    */
+
+    private Player getPlayer(String playerId) {
+        Player player = _players.get(playerId);
+        if (player == null) {
+            throw new IllegalArgumentException("Player " + playerId + " has not joined the round");
+        }
+        return player;
+    }
+
+    /*
+    *       The searchBoard() method checks a word typed by a player. A word is only counted the first time the player
+    *   submits it, and words with fewer than three letters are never counted.
+    *
+    *   Input:   playerId - the id of the player who submitted the word.
+    *            word - the submitted word.
+    *   Output:  true if the word is on the board and had not been found by the player yet.
+    *   Error:   IllegalArgumentException if the player has not joined the round.
+    */
+
+    boolean searchBoard(String playerId, String word) {
+        Player player = this.getPlayer(playerId);
+        if (word.length() <= 2) {
+            return false;
+        }
+        int index = this.indexOf(word);
+        if (index < 0) {
+            return false;
+        }
+
+        //Announce the submission before checking _over, so finish() either turns it away or waits for it.
+        player._inProgress.incrementAndGet();
+        try {
+            if (_over || !player.markFound(index)) {
+                return false;
+            }
+            player._rawScore.addAndGet(_answerPoints[index]);
+            _wordCounts.incrementAndGet(index);
+            return true;
+        } finally {
+            player._inProgress.decrementAndGet();
+        }
+    }
+
+    /*
+    *       The indexOf() method finds the index of a word among the words on the board.
+    *
+    *   Input:   word - a submitted word.
+    *   Output:  the index of the word, or a negative number if it is not on the board.
+    */
+
+    private int indexOf(String word) {
+        int id = _trie.getWordId(word);
+        if (id == Lexicon.NO_WORD) {
+            return -1;
+        }
+        return Arrays.binarySearch(_answerIds, id);
+    }
+
+    /*
+    *       The tick() method counts down one second. Once no time is left, the next tick finishes the round.
+    *
+    *   Input:   nothing.
+    *   Output:  true if the round is over.
+    */
+
+    boolean tick() {
+        if (_over) {
+            return true;
+        }
+        if (_secondsRemaining.get() > 0) {
+            _secondsRemaining.decrementAndGet();
+            return false;
+        }
+        this.finish();
+        return true;
+    }
+
+    /*
+    *       The finish() method stops accepting words, waits for the submissions that were already accepted to be
+    *   counted, and computes every player's final score, cancelling the words that were found by more than one player.
+    *   Calling finish() again returns the same scores.
+    *
+    *   Input:   nothing.
+    *   Output:  a map from each player's id to their final score.
+    */
+
+    synchronized Map<String, Integer> finish() {
+        if (_finalScores == null) {
+            _over = true;
+            for (Player player : _players.values()) {
+                while (player._inProgress.get() != 0) {
+                    Thread.onSpinWait();
+                }
+            }
+
+            HashMap<String, Integer> scores = new HashMap<>();
+            for (Map.Entry<String, Player> entry : _players.entrySet()) {
+                Player player = entry.getValue();
+                int score = 0;
+                for (int index = 0; index < _answerIds.length; index++) {
+                    if (player.hasFound(index) && (_wordCounts.get(index) == 1)) {
+                        score += _answerPoints[index];
+                    }
+                }
+                scores.put(entry.getKey(), score);
+            }
+            _finalScores = scores;
+        }
+        return _finalScores;
+    }
+
+    /*
+    *                                                Getters
+    *
+    *   Input:   playerId - the id of a player, or word - a word on the board.
+    *   Error:   IllegalArgumentException if the player has not joined the round.
+    */
+
+    GameBoard getGameBoard() {
+        return _gameBoard;
+    }
+
+    AnswerSet getAnswers() {
+        return _answers;
+    }
+
+    Lexicon getDictionary() {
+        return _trie;
+    }
+
+    List<String> getFoundWords(String playerId) {
+        Player player = this.getPlayer(playerId);
+        ArrayList<String> words = new ArrayList<>();
+        for (int index = 0; index < _answerIds.length; index++) {
+            if (player.hasFound(index)) {
+                words.add(_trie.getWord(_answerIds[index]));
+            }
+        }
+        return words;
+    }
+
+    int getRawScore(String playerId) {
+        return this.getPlayer(playerId)._rawScore.get();
+    }
+
+    int getNumPlayersFound(String word) {
+        int index = this.indexOf(word);
+        return (index < 0) ? 0 : _wordCounts.get(index);
+    }
+
+    int getNumPlayers() {
+        return _players.size();
+    }
+
+    int getSecondsRemaining() {
+        return _secondsRemaining.get();
+    }
+
+    boolean isOver() {
+        return _over;
+    }
+
+    /**
+     * Player Class
+     * <p>
+     * The Player class holds the words a single player found, as a bitset indexed by the index of each word on the
+     * board, their score before duplicates are cancelled, and the number of their submissions in progress.
+     **/
+
+    private static class Player {
+        private final AtomicLongArray _found;
+        private final AtomicInteger _rawScore;
+        private final AtomicInteger _inProgress;
+
+        Player(int numWords) {
+            _found = new AtomicLongArray((numWords + (Long.SIZE - 1)) / Long.SIZE);
+            _rawScore = new AtomicInteger();
+            _inProgress = new AtomicInteger();
+        }
+
+        /*
+        *       The markFound() method sets the bit for a word, retrying if another thread changed the same long first.
+        *
+        *   Input:   index - the index of the word on the board.
+        *   Output:  true if the bit was not already set.
+        */
+
+        boolean markFound(int index) {
+            int slot = index / Long.SIZE;
+            long bit = 1L << (index % Long.SIZE);
+            long bits;
+            do {
+                bits = _found.get(slot);
+                if ((bits & bit) != 0) {
+                    return false;
+                }
+            } while (!_found.compareAndSet(slot, bits, bits | bit));
+            return true;
+        }
+
+        boolean hasFound(int index) {
+            return (_found.get(index / Long.SIZE) & (1L << (index % Long.SIZE))) != 0;
+        }
+    }
+
+    /**
+     * NewPlayer Class
+     * <p>
+     * The NewPlayer class creates the Player for a player id the first time it joins the round.
+     **/
+
+    private static class NewPlayer implements Function<String, Player> {
+        private final int _numWords;
+
+        NewPlayer(int numWords) {
+            _numWords = numWords;
+        }
+
+        public Player apply(String playerId) {
+            return new Player(_numWords);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package boggle;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * PackedBoard Class
+ * <p>
+ * The PackedBoard class is a compact, immutable representation of the letters on a board, meant for code that looks at
+ * boards many times (validating submissions, solving, generating). Instead of a grid of Vertex objects each with a list
+ * of neighbors, a PackedBoard is a byte[] holding the alphabet index (0 for 'a' through 25 for 'z', or QU for the two
+ * letter "Qu" tile) of the tile on each cell (row * dim + col), plus a table of neighboring cells. The neighbor table
+ * only depends on the dimension of the board, so a single table is built for each dimension and shared by every
+ * PackedBoard of that size. The neighbors of cell i are _neighbors[_neighborStart[i]] up to
+ * _neighbors[_neighborStart[i + 1]], listed in the same order the GameBoard sets up the neighbors of a Vertex.
+ **/
+
+class PackedBoard {
+    static final byte QU = 26;
+    static final int NUM_TILES = 27;
+
+    private static final String[] TILES = PackedBoard.createTiles();
+    private static final ConcurrentHashMap<Integer, NeighborTable> TABLES = new ConcurrentHashMap<>();
+
+    private final int _dim;
+    private final byte[] _letters;
+    private final int[] _neighborStart;
+    private final int[] _neighbors;
+
+    /*
+    *       The PackedBoard() constructor stores the letters of a board and looks up the neighbor table for its
+    *   dimension.
+    *
+    *   Input:   dim - the dimension of the board.
+    *            letters - the alphabet index of the tile on each cell (row * dim + col). The array is not copied.
+    *   Output:  nothing.
+    *   Error:   IllegalArgumentException if letters does not have dim * dim entries.
+    */
+
+    PackedBoard(int dim, byte[] letters) {
+        if (letters.length != (dim * dim)) {
+            throw new IllegalArgumentException("Expected " + (dim * dim) + " letters but got " + letters.length);
+        }
+        _dim = dim;
+        _letters = letters;
+
+        NeighborTable table = PackedBoard.getNeighborTable(dim);
+        _neighborStart = table._start;
+        _neighbors = table._neighbors;
+    }
+
+    /*
+    *       The createTiles() method lists the letters shown on each tile, indexed by alphabet index.
+    *
+    *   Input:   nothing.
+    *   Output:  "a" through "z", followed by "qu".
+    */
+
+    private static String[] createTiles() {
+        String[] tiles = new String[NUM_TILES];
+        for (int letter = 0; letter < 26; letter++) {
+            tiles[letter] = Character.toString((char) ('a' + letter));
+        }
+        tiles[QU] = "qu";
+        return tiles;
+    }
+
+    /*
+    *       The getNeighborTable() method returns the shared neighbor table for a dimension, building it the first
+    *   time it is needed.
+    *
+    *   Input:   dim - the dimension of the board.
+    *   Output:  the NeighborTable for boards of that dimension.
+    */
+
+    private static NeighborTable getNeighborTable(int dim) {
+        NeighborTable table = TABLES.get(dim);
+        if (table == null) {
+            table = new NeighborTable(dim);
+            NeighborTable existing = TABLES.putIfAbsent(dim, table);
+            if (existing != null) {
+                table = existing;
+            }
+        }
+        return table;
+    }
+
+    /*
+    *                                                Getters
+    *
+    *   Input:   cell - a cell on the board (row * dim + col), or i - an index into the neighbor table.
+    *
+    *   getChar() returns the first letter of the tile, which is 'q' for the Qu tile.
+    */
+
+    int getDim() {
+        return _dim;
+    }
+
+    int getNumCells() {
+        return _letters.length;
+    }
+
+    int getLetter(int cell) {
+        return _letters[cell];
+    }
+
+    char getChar(int cell) {
+        return TILES[_letters[cell]].charAt(0);
+    }
+
+    String getTile(int cell) {
+        return TILES[_letters[cell]];
+    }
+
+    int getNeighborStart(int cell) {
+        return _neighborStart[cell];
+    }
+
+    int getNeighborEnd(int cell) {
+        return _neighborStart[cell + 1];
+    }
+
+    int getNeighbor(int i) {
+        return _neighbors[i];
+    }
+
+    /**
+     * NeighborTable Class
+     * <p>
+     * The NeighborTable class lists the neighbors of every cell on a board of a given dimension. Cells have up to 8
+     * neighbors, which are added in the same order as GameBoard.setNeighbors() (up, down, left, down-left, up-left,
+     * right, down-right, up-right).
+     **/
+
+    private static class NeighborTable {
+        private static final int[][] OFFSETS = {{-1, 0}, {1, 0}, {0, -1}, {1, -1}, {-1, -1}, {0, 1}, {1, 1}, {-1, 1}};
+
+        private final int[] _start;
+        private final int[] _neighbors;
+
+        NeighborTable(int dim) {
+            int numCells = dim * dim;
+            int[] neighbors = new int[numCells * 8];
+            _start = new int[numCells + 1];
+
+            int count = 0;
+            for (int row = 0; row < dim; row++) {
+                for (int col = 0; col < dim; col++) {
+                    _start[(row * dim) + col] = count;
+                    for (int[] offset : OFFSETS) {
+                        int r = row + offset[0];
+                        int c = col + offset[1];
+                        if ((r >= 0) && (r < dim) && (c >= 0) && (c < dim)) {
+                            neighbors[count] = (r * dim) + c;
+                            count++;
+                        }
+                    }
+                }
+            }
+            _start[numCells] = count;
+            _neighbors = Arrays.copyOf(neighbors, count);
+        }
+    }
+}
@@ -27,11 +27,11 @@ import javafx.scene.text.Text;
 
 class PaneOrganizer {
 
-    private static javafx.scene.layout.BorderPane _root;
-    private static javafx.scene.layout.GridPane _boardPane;
-    private static javafx.scene.layout.HBox _bottomPane;
-    private static javafx.scene.layout.GridPane _wordPane;
-    private static Game _game;
+    private javafx.scene.layout.BorderPane _root;
+    private javafx.scene.layout.GridPane _boardPane;
+    private javafx.scene.layout.HBox _bottomPane;
+    private javafx.scene.layout.GridPane _wordPane;
+    private Game _game;
 
     /*
     *       The PaneOrganizer() constructor stores the current game, initializes the _root variable with a new BorderPane,
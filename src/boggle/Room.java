@@ -0,0 +1,115 @@
+package boggle;
+
+/**
+ * Room Class
+ * <p>
+ * The Room class is a single game hosted by the GameServer. Each Room has its own Round, and so its own GameBoard,
+ * Dice, WordList and score, while the dictionary is shared by every Room on the server. Words are submitted to a Room
+ * from the server's submission threads while the server's scheduler ticks it, so every method that touches the Round
+ * locks the Room first; different Rooms never share a lock.
+ **/
+
+class Room {
+    private final long _id;
+    private final Round _round;
+
+    /*
+    *       The Room() constructor stores the id of the room and the Round being played in it.
+    *
+    *   Input:   id - the id the server uses to find the room.
+    *            round - the Round played in the room.
+    *   Output:  nothing.
+    */
+
+    Room(long id, Round round) {
+        _id = id;
+        _round = round;
+    }
+
+    /*
+    *       The submit() method checks a word typed by the player and returns the new score.
+    *
+    *   Input:   word - the submitted word.
+    *   Output:  the score after the word was checked.
+    */
+
+    synchronized int submit(String word) {
+        _round.searchBoard(word);
+        return _round.getScore();
+    }
+
+    /*
+    *       The getHint() method returns the best word in the Round that the player has not found yet.
+    *
+    *   Input:   nothing.
+    *   Output:  the Hint, or null if every word worth points was already found.
+    */
+
+    synchronized HintEngine.Hint getHint() {
+        return _round.getHint();
+    }
+
+    /*
+    *       The tick() method counts down one second of the Round.
+    *
+    *   Input:   nothing.
+    *   Output:  true if the Round is over.
+    */
+
+    synchronized boolean tick() {
+        _round.tick();
+        return _round.isOver();
+    }
+
+    /*
+    *       The close() method stops the Round, so no more words are accepted.
+    *
+    *   Input:   nothing.
+    *   Output:  nothing.
+    */
+
+    synchronized void close() {
+        _round.stop();
+    }
+
+    /*
+    *       The addListener() method registers a listener on the Round, such as a connection sending updates to the
+    *   player. The listener is called while the Room is locked.
+    *
+    *   Input:   listener - the RoundListener to be added.
+    *   Output:  nothing.
+    */
+
+    synchronized void addListener(RoundListener listener) {
+        _round.addListener(listener);
+    }
+
+    /*
+    *                                                Getters
+    *
+    */
+
+    long getId() {
+        return _id;
+    }
+
+    synchronized int getScore() {
+        return _round.getScore();
+    }
+
+    synchronized int getSecondsRemaining() {
+        return _round.getSecondsRemaining();
+    }
+
+    synchronized boolean isOver() {
+        return _round.isOver();
+    }
+
+    GameBoard getGameBoard() {
+        return _round.getGameBoard();
+    }
+
+    AnswerSet getAnswers() {
+        return _round.getAnswers();
+    }
+}
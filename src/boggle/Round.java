@@ -0,0 +1,320 @@
+package boggle;
+
+import java.util.ArrayList;
+
+/**
+ * Round Class
+ * <p>
+ * The Round class is the game engine for a single round of Boggle, without any graphics. It gets a solved board from a
+ * BoardPool or a BoardFilter (so that only boards worth playing are served), and then accepts submitted words, keeping
+ * track of the words that were already submitted (in a WordList), the score, and the seconds remaining. Everything that
+ * happens during the round is reported to its RoundListeners, which is how the JavaFX visualizers stay up to date; a
+ * Round with no listeners can be played as fast as words can be submitted, which is what servers and batch jobs do. The
+ * seconds are counted by a RoundTimer, or by calling tick() directly.
+ * <p>
+ * A Round is not thread safe: words should be submitted and the timer ticked from one thread at a time.
+ **/
+
+class Round {
+    static final int ROUND_SECONDS = 180;
+
+    private final Lexicon _trie;
+    private final GameBoard _gameBoard;
+    private final AnswerSet _answers;
+    private final WordList _wordlist;
+    private final ArrayList<RoundListener> _listeners;
+    private RoundTimer _timer;
+    private HintEngine _hints;
+    private int _hintCursor;
+    private int _score;
+    private int _secondsRemaining;
+    private boolean _over;
+
+    /*
+    *       The Round() constructor takes a board of the inputted dimension that was already rolled and solved using
+    *   the shared dictionary from the shared BoardPool, so that starting a round does not have to wait for either.
+    *
+    *   Input:   dimension - the dimension of the board.
+    *   Output:  nothing.
+    */
+
+    Round(int dimension) {
+        this(DictionaryService.get(), BoardPool.get(dimension).take());
+    }
+
+    /*
+    *       The Round() constructor gets a new board of the inputted dimension from a BoardFilter configured by the
+    *   system properties, solved using the inputted dictionary.
+    *
+    *   Input:   trie - the dictionary used to check if words are valid.
+    *            dimension - the dimension of the board.
+    *   Output:  nothing.
+    */
+
+    Round(Lexicon trie, int dimension) {
+        this(trie, BoardFilter.fromProperties(trie).nextBoard(dimension));
+    }
+
+    /*
+    *       The Round() constructors play a board that was already solved, or find every word on the inputted board up
+    *   front, so that submissions don't need to search the board.
+    *
+    *   Input:   trie - the dictionary used to check if words are valid.
+    *            answers - the AnswerSet of the board the round is played on, or
+    *            gameBoard - the board the round is played on.
+    *   Output:  nothing.
+    */
+
+    Round(Lexicon trie, AnswerSet answers) {
+        this(trie, new GameBoard(answers.getBoard()), answers);
+    }
+
+    Round(Lexicon trie, GameBoard gameBoard) {
+        this(trie, gameBoard, new BoardSolver(trie).solve(gameBoard));
+    }
+
+    private Round(Lexicon trie, GameBoard gameBoard, AnswerSet answers) {
+        _trie = trie;
+        _gameBoard = gameBoard;
+        _answers = answers;
+        _wordlist = new WordList(trie);
+        _listeners = new ArrayList<>();
+        _hintCursor = 0;
+        _score = 0;
+        _secondsRemaining = ROUND_SECONDS;
+        _over = false;
+    }
+
+    /*
+    *       The pointsFor() method returns the number of points a valid word is worth. Words with fewer than three
+    *   letters are not worth any points.
+    *
+    *   Input: word - a valid word.
+    *   Output: the number of points the word is worth.
+    */
+
+    static int pointsFor(String word) {
+        if (word.length() > 2) {
+            return (word.length() - 2);
+        }
+        return 0;
+    }
+
+    /*
+    *       The addListener() method registers a listener to be told about everything that happens in the round.
+    *
+    *   Input:   listener - the RoundListener to be added.
+    *   Output:  nothing.
+    */
+
+    void addListener(RoundListener listener) {
+        _listeners.add(listener);
+    }
+
+    /*
+    *       The start() method starts the inputted timer, which will tick the round once a second until it is over.
+    *
+    *   Input:   timer - the RoundTimer counting down the round.
+    *   Output:  nothing.
+    */
+
+    void start(RoundTimer timer) {
+        _timer = timer;
+        _timer.start(this);
+    }
+
+    /*
+    *       The searchBoard() method is used when a word is typed in. Since the BoardSolver already found every word on
+    *   the board when the round was created, the inputted word is valid exactly when it is in the board's AnswerSet,
+    *   so no searching is needed.
+    *
+    *   Input:   str -> the string inputted by the user.
+    *   Output:  nothing.
+    */
+
+    void searchBoard(String str) {
+        if (_over || str.isEmpty()) {
+            return;
+        }
+        this.wordFound(str, _answers.contains(str));
+    }
+
+    /*
+    *       The checkSelectedLetters() method is used when the user submits letters selected on the GameBoard. Because
+    *   only neighboring letters can be selected, the only thing to be checked is if the word is in the dictionary.
+    *
+    *   Input:   str -> the string inputted by the user via the GameBoard.
+    *   Output:  nothing.
+    */
+
+    void checkSelectedLetters(String str) {
+        if (_over || str.isEmpty()) {
+            return;
+        }
+        this.wordFound(str, _trie.containsWord(str));
+    }
+
+    /*
+    *       The checkSelectedLetters() method can also be given the dictionary node the selected letters lead to, when
+    *   the caller (such as the GameBoardVis) already followed them while they were selected. Checking the word is
+    *   then a single look at the node instead of a new search from the root of the dictionary.
+    *
+    *   Input:   str -> the string inputted by the user via the GameBoard.
+    *            node -> the node of the round's dictionary reached by str, or Lexicon.NO_NODE if there is none.
+    *   Output:  nothing.
+    */
+
+    void checkSelectedLetters(String str, int node) {
+        if (_over || str.isEmpty()) {
+            return;
+        }
+        this.wordFound(str, (node != Lexicon.NO_NODE) && _trie.isWord(node));
+    }
+
+    /*
+    *       The wordFound() method adds a submitted word to the WordList (to ensure that words are only counted once),
+    *   awards points for valid words, and tells the listeners.
+    *
+    *   Input:   word -> the word that was validated or invalidated.
+    *            valid -> true if word is valid, false if word is invalid.
+    *   Output:  nothing.
+    */
+
+    private void wordFound(String word, Boolean valid) {
+        if (!_wordlist.addWord(word)) {
+            for (RoundListener listener : _listeners) {
+                listener.wordRepeated(word);
+            }
+            return;
+        }
+
+        if (!valid) {
+            for (RoundListener listener : _listeners) {
+                listener.wordSubmitted(word, false, 0);
+            }
+        } else if (word.length() > 2) {
+            int points = Round.pointsFor(word);
+            _score += points;
+            for (RoundListener listener : _listeners) {
+                listener.wordSubmitted(word, true, points);
+                listener.scoreChanged(_score);
+            }
+        } else {
+            for (RoundListener listener : _listeners) {
+                listener.wordTooShort(word);
+            }
+        }
+    }
+
+    /*
+    *       The getHint() method returns the best word on the board (the one worth the most points) that has not been
+    *   submitted yet. The HintEngine is only created the first time a hint is asked for.
+    *
+    *   Input:   nothing.
+    *   Output:  the Hint, or null if every word worth points was already submitted.
+    */
+
+    HintEngine.Hint getHint() {
+        if (_hints == null) {
+            _hints = new HintEngine(_trie, _answers);
+        }
+        _hintCursor = _hints.next(_hintCursor, _wordlist);
+        if (_hintCursor == HintEngine.END) {
+            return null;
+        }
+        return new HintEngine.Hint(_hints.getWord(_hintCursor), _hints.getPoints(_hintCursor),
+                _hints.getPath(_hintCursor));
+    }
+
+    /*
+    *       The tick() method counts down one second and tells the listeners. Once no time is left, the next tick ends
+    *   the round.
+    *
+    *   Input:   nothing.
+    *   Output:  nothing.
+    */
+
+    void tick() {
+        if (_over) {
+            return;
+        }
+        if (_secondsRemaining > 0) {
+            _secondsRemaining--;
+            for (RoundListener listener : _listeners) {
+                listener.timeChanged(_secondsRemaining);
+            }
+        } else {
+            //Time's up!
+            this.end();
+            for (RoundListener listener : _listeners) {
+                listener.roundOver();
+            }
+        }
+    }
+
+    /*
+    *       The stop() method ends the round before the time runs out, and tells the listeners that it was stopped
+    *   rather than over. It is used when a round is abandoned for a new one. Stopping a round that is already over
+    *   does nothing.
+    *
+    *   Input:   nothing.
+    *   Output:  nothing.
+    */
+
+    void stop() {
+        if (_over) {
+            return;
+        }
+        this.end();
+        for (RoundListener listener : _listeners) {
+            listener.roundStopped();
+        }
+    }
+
+    /*
+    *       The end() method stops the timer and stops accepting words.
+    *
+    *   Input:   nothing.
+    *   Output:  nothing.
+    */
+
+    private void end() {
+        _over = true;
+        if (_timer != null) {
+            _timer.stop();
+        }
+    }
+
+    /*
+    *                                                Getters
+    *
+    */
+
+    GameBoard getGameBoard() {
+        return _gameBoard;
+    }
+
+    Lexicon getDictionary() {
+        return _trie;
+    }
+
+    AnswerSet getAnswers() {
+        return _answers;
+    }
+
+    WordList getWordList() {
+        return _wordlist;
+    }
+
+    int getScore() {
+        return _score;
+    }
+
+    int getSecondsRemaining() {
+        return _secondsRemaining;
+    }
+
+    boolean isOver() {
+        return _over;
+    }
+}
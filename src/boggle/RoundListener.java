@@ -0,0 +1,81 @@
+package boggle;
+
+/**
+ * RoundListener Interface
+ * <p>
+ * The RoundListener interface is implemented by anything that wants to follow a Round as it is played, such as the
+ * JavaFX visualizers or a server sending updates to players. The Round calls its listeners on the thread that
+ * submitted the word or ticked the timer.
+ **/
+
+interface RoundListener {
+
+    /*
+    *       The wordSubmitted() method is called the first time a word is submitted in a round, unless it is a valid
+    *   word too short to score (see wordTooShort()).
+    *
+    *   Input:   word - the submitted word.
+    *            valid - true if the word is in the dictionary and on the board.
+    *            points - the points awarded for the word.
+    *   Output:  nothing.
+    */
+
+    void wordSubmitted(String word, boolean valid, int points);
+
+    /*
+    *       The wordRepeated() method is called every time a word that was already submitted in the round is submitted
+    *   again. No points are awarded for it.
+    *
+    *   Input:   word - the submitted word.
+    *   Output:  nothing.
+    */
+
+    void wordRepeated(String word);
+
+    /*
+    *       The wordTooShort() method is called the first time a valid word of two letters or fewer is submitted in a
+    *   round. Such words are worth no points.
+    *
+    *   Input:   word - the submitted word.
+    *   Output:  nothing.
+    */
+
+    void wordTooShort(String word);
+
+    /*
+    *       The scoreChanged() method is called when points are awarded.
+    *
+    *   Input:   score - the new cumulative score.
+    *   Output:  nothing.
+    */
+
+    void scoreChanged(int score);
+
+    /*
+    *       The timeChanged() method is called every time the timer ticks.
+    *
+    *   Input:   secondsRemaining - the number of seconds left in the round.
+    *   Output:  nothing.
+    */
+
+    void timeChanged(int secondsRemaining);
+
+    /*
+    *       The roundOver() method is called once when the time runs out.
+    *
+    *   Input:   nothing.
+    *   Output:  nothing.
+    */
+
+    void roundOver();
+
+    /*
+    *       The roundStopped() method is called once if the round is stopped before the time runs out, such as when it
+    *   is abandoned for a new one. roundOver() is not called for a stopped round.
+    *
+    *   Input:   nothing.
+    *   Output:  nothing.
+    */
+
+    void roundStopped();
+}
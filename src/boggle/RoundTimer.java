@@ -0,0 +1,30 @@
+package boggle;
+
+/**
+ * RoundTimer Interface
+ * <p>
+ * The RoundTimer interface hides how the seconds of a Round are counted, so that the Round itself does not depend on
+ * any particular clock. The JavaFX game uses a Timeline, while a server or a batch job can use a scheduler, or skip
+ * the timer altogether and call Round.tick() directly.
+ **/
+
+interface RoundTimer {
+
+    /*
+    *       The start() method starts calling round.tick() once a second.
+    *
+    *   Input:   round - the Round to be ticked.
+    *   Output:  nothing.
+    */
+
+    void start(Round round);
+
+    /*
+    *       The stop() method stops ticking the Round.
+    *
+    *   Input:   nothing.
+    *   Output:  nothing.
+    */
+
+    void stop();
+}
@@ -0,0 +1,104 @@
+package boggle;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+
+/**
+ * TrieMemoryReport Class
+ * <p>
+ * The TrieMemoryReport class is a small command line tool that loads the dictionary and prints how much memory the
+ * array-backed DictTrie uses, next to an estimate of what the same trie cost when every node was an object holding a
+ * Node[26] array of children, a Boolean, and a String with the word it ended. The estimate assumes a 64-bit JVM with
+ * compressed references (12 byte object headers, 16 byte array headers, 4 byte references, objects padded to 8 bytes)
+ * and compact (Latin-1) Strings. The measured heap difference is only approximate, since it depends on when the garbage
+ * collector runs. For comparison, it also builds a Dawg from the same words and prints the size of its arrays.
+ **/
+
+class TrieMemoryReport {
+
+    private static final long OBJECT_HEADER = 12;
+    private static final long ARRAY_HEADER = 16;
+    private static final long REFERENCE = 4;
+
+    /*
+    *       The align() method rounds a size up to the 8 byte boundary objects are padded to.
+    *
+    *   Input:   bytes - the unpadded size of an object.
+    *   Output:  the padded size of the object.
+    */
+
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+
+    /*
+    *       The usedHeap() method asks the JVM to collect garbage and returns the heap currently in use.
+    *
+    *   Input:   nothing.
+    *   Output:  the number of bytes of heap in use.
+    */
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 4; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /*
+    * ----------------------------------------------- Mainline ---------------------------------------------------
+    * */
+    public static void main(String[] argv) throws IOException {
+        long before = TrieMemoryReport.usedHeap();
+        DictTrie trie = new DictTrie();
+        new LineReader(trie).addToDict();
+        long measured = TrieMemoryReport.usedHeap() - before;
+
+        // The String stored on each word node is the only part of the old layout that depends on the words.
+        long numWords = 0;
+        long stringBytes = 0;
+        InputStream input = TrieMemoryReport.class.getResourceAsStream("/OpenEnglishWordList.txt");
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, "UTF-8"))) {
+            String line = reader.readLine();
+            while (line != null) {
+                numWords++;
+                stringBytes += align(OBJECT_HEADER + 4 + 1 + 1 + REFERENCE) + align(ARRAY_HEADER + line.length());
+                line = reader.readLine();
+            }
+        }
+
+        long nodes = trie.getNumNodes();
+        long nodeObject = align(OBJECT_HEADER + (3 * REFERENCE));
+        long childArray = align(ARRAY_HEADER + (26 * REFERENCE));
+        long objectLayout = (nodes * (nodeObject + childArray)) + stringBytes;
+        long arrayLayout = trie.getAllocatedBytes();
+
+        System.out.println("Words:                          " + numWords);
+        System.out.println("Trie nodes:                     " + nodes);
+        System.out.println();
+        System.out.println("Object-per-node layout (estimated):");
+        System.out.println("  Node objects                  " + (nodes * nodeObject) + " bytes");
+        System.out.println("  Node[26] child arrays         " + (nodes * childArray) + " bytes");
+        System.out.println("  Word Strings                  " + stringBytes + " bytes");
+        System.out.println("  Total                         " + objectLayout + " bytes ("
+                + (objectLayout / nodes) + " bytes per node)");
+        System.out.println();
+        System.out.println("Array-backed layout:");
+        System.out.println("  Node arrays (with capacity)   " + arrayLayout + " bytes ("
+                + (arrayLayout / nodes) + " bytes per node)");
+        System.out.println("  Measured heap growth          " + measured + " bytes");
+        System.out.println();
+        System.out.println("Reduction:                      " + (objectLayout / Math.max(1, arrayLayout)) + "x");
+
+        Dawg.Builder builder = new Dawg.Builder();
+        new LineReader(builder).addToDict();
+        Dawg dawg = builder.build();
+        System.out.println();
+        System.out.println("Dawg:");
+        System.out.println("  Nodes / edges                 " + dawg.getNumNodes() + " / " + dawg.getNumEdges());
+        System.out.println("  Arrays                        " + dawg.getAllocatedBytes() + " bytes");
+    }
+}
@@ -6,27 +6,32 @@ class Vertex {
     private final ArrayList<Vertex> _neighbors;
     private final int _row;
     private final int _col;
-    private char _c;
-    private Boolean _isVisted;
+    private final int _index;
+    private String _tile;
 
 
-    Vertex(int row, int col) {
+    Vertex(int row, int col, int dim) {
         _row = row;
         _col = col;
+        _index = (row * dim) + col;
         _neighbors = new ArrayList<>();
-        _isVisted = false;
     }
 
-    /*                           Getter and Setter Methods for _isVisited variable
+    /*                           Getter and Setter Methods for _tile variable
     *
+    * The tile is the letter on the Vertex, or "qu" for the two letter Qu tile. getChar() returns its first letter.
     * */
 
-    void setChar(char c) {
-        _c = c;
+    void setTile(String tile) {
+        _tile = tile;
+    }
+
+    String getTile() {
+        return _tile;
     }
 
     char getChar() {
-        return _c;
+        return _tile.charAt(0);
     }
 
     /*                        Setter Method for Neighbors
@@ -66,16 +71,14 @@ class Vertex {
         return _col;
     }
 
-     /*                           Getter and Setter Methods for _isVisited variable
+     /*                           Getter Method for the Index of the Vertex
     *
+    * Input: None.
+    * Output: The index of the Vertex's cell on the board (row * dim + col), used for paths and visited bitmasks.
     * */
 
-    void setVisited(Boolean bool) {
-        _isVisted = bool;
-    }
-
-    Boolean getVisited() {
-        return _isVisted;
+    int getIndex() {
+        return _index;
     }
 
 }
\ No newline at end of file
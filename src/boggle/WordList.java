@@ -1,129 +1,84 @@
 package boggle;
 
-import javafx.scene.layout.GridPane;
-
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
 
 /**
  * WordList Class
  * <p>
- * The WordList class keeps track of the words that have been submitted then adds them to the WordListVis so the
- * user can see what they have already guessed as well as whether or not it the word was valid (with valid words
- * rendered in white and invalid rendered in red. The WordList refers to the trie to check if word are valid or
- * not. The WordList also passes a reference to the GameBoardVis to the WordListVis upon instantiation in order
- * to check if a word that was selected via a mouse drag click across the GameBoard is valid.
+ * The WordList class keeps track of the words that have been submitted during a Round, so that each word is only
+ * checked and scored once. It does not do any drawing: the Round tells its listeners (such as the WordListVis) about
+ * each new word. Words that are in the dictionary are recorded as bits in a BitSet indexed by their word ID, so
+ * checking if one was already submitted is a single bit test with no String hashing, and the set never takes more
+ * than one bit per word in the dictionary. Guesses that are not in the dictionary have no ID, so they are kept in a
+ * HashSet instead. The words are also listed in the order they were submitted.
  **/
 
 class WordList {
 
-    private final DictTrie _trie;
-    private final Vertex[][] _vertices;
-    private final int _dim;
+    private final Lexicon _trie;
+    private final BitSet _found;
+    private final HashSet<String> _nonWords;
     private final ArrayList<String> _wordlist;
-    private final WordListVis _visualizer;
-    private final Game _game;
 
     /*
-    *       The WordList() constructor initializes all of its private variables.
+    *       The WordList() constructor initializes an empty list of submitted words.
     *
-    *   Input:   trie -> the DictTrie used to check if words are valid.
-    *            gameBoard -> a reference to the GameBoard
-    *            dim -> dimension of the GameBoard
-    *            pane -> the GridPane organizing the WordListVis on the right of the BorderPane
-    *            game -> reference to the instance of Game controlling the program
+    *   Input:   trie -> the dictionary the word IDs come from.
     *   Output:  nothing.
     */
 
-    WordList(DictTrie trie, GameBoard gameBoard, int dim, GridPane pane, Game game) {
-        /* Initialize private variables. */
+    WordList(Lexicon trie) {
         _trie = trie;
-        _vertices = gameBoard.getVertices();
-        _dim = dim;
+        _found = new BitSet();
+        _nonWords = new HashSet<>();
         _wordlist = new ArrayList<>();
-        _visualizer = new WordListVis(pane, this, gameBoard.getGBVisualizer());
-        _game = game;
-
     }
 
     /*
-    *       The searchBoard() method is used when a word is entered into the TextField of the WordListVis. This method
-    *  takes in the word that was inputted into the TextField, then it finds letters on the board that match the first
-    *  letter of the inputted word and calls the DictTrie's checkValidWorldTyped() method to dynamically search the
-    *  board and the dictionary at the same time from there until the word is found.
+    *       The addWord() method adds a word to the list if it has not been submitted before.
     *
-    *   Input:   str -> the string inputted by the user into the TextField
-    *   Output:  Nothing
+    *   Input:   word -> the submitted word.
+    *   Output:  true if the word was added, false if it had already been submitted.
     */
 
-    void searchBoard(String str) {
-        char[] word = str.toCharArray();
-
-        for (int row = 0; row < _dim; row++) {
-            for (int col = 0; col < _dim; col++) {
-                if (_vertices[row][col].getChar() == word[0]) {
-                    if (_trie.checkValidWordTyped(word, _vertices[row][col])) {
-                        this.wordFound(str, true);
-                        return;
-                    }
-                }
+    Boolean addWord(String word) {
+        int id = _trie.getWordId(word);
+        if (id == Lexicon.NO_WORD) {
+            if (!_nonWords.add(word)) {
+                return false;
             }
-        }
-        this.wordFound(str, false);
-    }
-
-    /*
-    *       The checkSelectedLetters() method is used when the user hits submit after selecting letters on the GameBoard.
-    *   Because the user can only select BoggleSquares that neighbor the last selected BoggleSquare, the only thing to
-    *   be checked is if the word is contained in the DictTrie.
-    *
-    *   Input:   str -> the string inputted by the user via the GameBoard
-    *   Output:  nothing.
-    */
-
-    void checkSelectedLetters(String str) {
-        //Only neighboring cells can be added to current selected word on the GameBoard.
-        if (_trie.containsWord(str)) {
-            //If selected word is a word, it is automatically valid.
-            this.wordFound(str, true);
         } else {
-            //If selected word is not a word, it is invalid.
-            this.wordFound(str, false);
+            if (_found.get(id)) {
+                return false;
+            }
+            _found.set(id);
         }
-
+        _wordlist.add(word);
+        return true;
     }
 
     /*
-    *       The gameOver() method disables the TextField and Buttons in the WordListVis.
+    *                                                Getters
     *
-    *   Input:   nothing.
-    *   Output:  nothing.
     */
 
-    void gameOver() {
-        _visualizer.gameOver();
+    Boolean contains(String word) {
+        int id = _trie.getWordId(word);
+        return (id == Lexicon.NO_WORD) ? _nonWords.contains(word) : _found.get(id);
     }
 
-    /*
-    *       The wordFound() method is called by the WordList when a word is found to add it to the _wordlist variable
-    *   (to ensure that guessed words are only displayed once) and update the visualizer.
-    *
-    *   Input:   str -> the word that was validated or invalidated.
-    *            bool -> true if word is valid, false if word is invalid.
-    *   Output:  nothing.
-    */
+    Boolean containsId(int id) {
+        return _found.get(id);
+    }
 
-    private void wordFound(String word, Boolean bool) {
-        if (!_wordlist.contains(word)) {
-            _wordlist.add(word);
+    List<String> getWords() {
+        return _wordlist;
+    }
 
-            if (!bool) {
-                _visualizer.addWord(word, false);
-            } else {
-                if (word.length() > 2) {
-                    _visualizer.addWord(word, true);
-                    _game.awardPoints(word);
-                }
-            }
-        }
+    int size() {
+        return _wordlist.size();
     }
 }
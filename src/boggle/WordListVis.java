@@ -20,10 +20,11 @@ import java.util.concurrent.ArrayBlockingQueue;
 /**
  * WordListVis Class
  * <p>
- * The WordListVis class represents the graphical abstraction of the WordList. It also formats and manages the submit,
- * delete, and clear buttons and contains private inner class that act as listeners for each button. To easily access
- * the next available label, the labels are initially added to a queue and removed throughout the game. An improvement
- * would be to have more labels if the user decided to expand the app, so that there would always be more labels.
+ * The WordListVis class represents the graphical abstraction of the WordList, sending the words the user submits to the
+ * Round and displaying them once the Round has checked them. It also formats and manages the submit, delete, clear and
+ * hint buttons and contains private inner class that act as listeners for each button. To easily access the next
+ * available label, the labels are initially added to a queue and removed throughout the game. An improvement would be
+ * to have more labels if the user decided to expand the app, so that there would always be more labels.
  **/
 
 class WordListVis {
@@ -32,7 +33,7 @@ class WordListVis {
     private javafx.scene.control.TextField _txtField;
     private javafx.scene.control.Label _wordLabel;
     private javafx.scene.control.Button[] _buttons;
-    private final WordList _wordlist;
+    private final Round _round;
     private final GameBoardVis _gbVis;
 
     /*
@@ -41,14 +42,14 @@ class WordListVis {
     *   (for formatting purposes), and finally creates the Labels that display the guessed words.
     *
     *   Input:   pane -> GridPane set as the right Pane in the BorderPane.
-    *            wordlist -> the WordList that instantiated this instance of the WordListVis.
+    *            round -> the Round that submitted words are sent to.
     *            gbVisulaiser -> reference to the GameBoard's visualizer to perform button functions.
     *   Output:  nothing.
     */
 
-    WordListVis(GridPane pane, WordList wordlist, GameBoardVis gbVisualizer) {
+    WordListVis(GridPane pane, Round round, GameBoardVis gbVisualizer) {
         _pane = pane;
-        _wordlist = wordlist;
+        _round = round;
         _gbVis = gbVisualizer;
         _gbVis.setWordListVis(this);
         _queue = new ArrayBlockingQueue<>((Constants.NUM_WORD_LIST_COLS * Constants.NUM_WORD_LIST_ROWS));
@@ -65,8 +66,8 @@ class WordListVis {
         _txtField.setEditable(false);
         _txtField.setOnKeyPressed(null);
 
-        for (int i = 0; i < 3; i++) {
-            _buttons[i].setOnAction(null);
+        for (Button button : _buttons) {
+            button.setOnAction(null);
         }
 
     }
@@ -144,14 +145,14 @@ class WordListVis {
     }
 
     /*
-    *       The createButtons() method creates the 'Submit', 'Delete', and 'Clear' buttons.
+    *       The createButtons() method creates the 'Submit', 'Delete', 'Clear' and 'Hint' buttons.
     *
     *   Input:   nothing.
     *   Output:  nothing.
     */
 
     private void createButtons() {
-        _buttons = new Button[3];
+        _buttons = new Button[4];
 
         _buttons[0] = new Button("Submit");
         _buttons[0].setMaxSize(70, 20);
@@ -173,6 +174,13 @@ class WordListVis {
         _buttons[2].setStyle(Constants.GAME_BUTTONS_CSS);
         _pane.add(_buttons[2], 2, 2);
         GridPane.setHalignment(_buttons[2], HPos.CENTER);
+
+        _buttons[3] = new Button("Hint");
+        _buttons[3].setMaxSize(70, 20);
+        _buttons[3].setOnAction(new HintListener());
+        _buttons[3].setStyle(Constants.GAME_BUTTONS_CSS);
+        _pane.add(_buttons[3], 0, 0);
+        GridPane.setHalignment(_buttons[3], HPos.LEFT);
     }
 
     /*
@@ -210,11 +218,11 @@ class WordListVis {
     private class SubmitListener implements EventHandler<ActionEvent> {
         public void handle(ActionEvent event) {
             if ((_txtField.getText() != null) && (!_txtField.getText().isEmpty())) {
-                _wordlist.searchBoard(_txtField.getText());
+                _round.searchBoard(_txtField.getText());
                 _txtField.clear();
             } else if (WordListVis.this.getGameBoard().getSelectedWord() != null) {
                 GameBoardVis gbVis = WordListVis.this.getGameBoard();
-                _wordlist.checkSelectedLetters(gbVis.getSelectedWord());
+                _round.checkSelectedLetters(gbVis.getSelectedWord(), gbVis.getSelectedNode());
                 GameBoardVis gb = WordListVis.this.getGameBoard();
                 gb.setLetterLock(true);
                 gb.clearAllSelectedLetters();
@@ -254,6 +262,25 @@ class WordListVis {
         }
     }
 
+    /**
+     * HintListener Class
+     * <p>
+     * The HintListener class asks the Round for the best word that has not been found yet and highlights it on the
+     * GameBoard.
+     **/
+
+    private class HintListener implements EventHandler<ActionEvent> {
+        public void handle(ActionEvent event) {
+            HintEngine.Hint hint = _round.getHint();
+            if (hint != null) {
+                GameBoardVis gb = WordListVis.this.getGameBoard();
+                gb.setLetterLock(true);
+                gb.showHint(hint.getPath());
+                gb.setLetterLock(false);
+            }
+        }
+    }
+
     /**
      * KeyListener Class
      * <p>
@@ -263,7 +290,7 @@ class WordListVis {
     private class KeyListener implements EventHandler<KeyEvent> {
         public void handle(KeyEvent key) {
             if ((_txtField.getText() != null) && (key.getCode() == KeyCode.ENTER)) {
-                _wordlist.searchBoard(_txtField.getText());
+                _round.searchBoard(_txtField.getText());
                 _txtField.clear();
             }
         }
@@ -0,0 +1,16 @@
+package boggle;
+
+/**
+ * WordSink Interface
+ * <p>
+ * The WordSink interface is implemented by anything a LineReader can add the words of the dictionary file to, such as
+ * a DictTrie or a Dawg.Builder.
+ **/
+
+interface WordSink {
+
+    /*
+    *       Adds a single word to the dictionary being built.
+    */
+    void add(String word);
+}
@@ -0,0 +1,275 @@
+package boggle;
+
+/**
+ * WordValidator Class
+ * <p>
+ * The WordValidator class checks if a single word is valid (if it is both on the board and in the dictionary) by
+ * searching through the dictionary and the letters on the board simultaneously. The WordValidator keeps
+ * no state between calls: the cells already used by the current path are kept in a long bitmask (bit
+ * Vertex.getIndex()) that is passed down the search, and the result is returned rather than stored in a field. Nothing
+ * on the board or in the dictionary is ever changed, so any number of threads can validate words against the same
+ * GameBoard and Lexicon at the same time without locking. A cell with the two letter Qu tile matches both the q and
+ * the u of a word, and only if they are next to each other.
+ * <p>
+ * The validator can also check words against a PackedBoard. That search only reads primitive arrays and the
+ * characters of the word, so it does not allocate anything on the heap, which matters when a server is validating
+ * submissions for many players at once. Boards with more than 64 cells are always searched as PackedBoards, with the
+ * cells in the path kept in a long[] bitmap (the only thing allocated) instead of a single long.
+ **/
+
+class WordValidator {
+    private final Lexicon _lexicon;
+
+    /*
+    *       The WordValidator() constructor stores the dictionary words are checked against.
+    *
+    *   Input:   lexicon - the dictionary.
+    *   Output:  nothing.
+    */
+
+    WordValidator(Lexicon lexicon) {
+        _lexicon = lexicon;
+    }
+
+    /*
+    *       The isValid() method finds the vertices on the board that match the first letter of the word and searches
+    *   from each of them until the word is found.
+    *
+    *   Input:   word - the word to be validated.
+    *            board - the GameBoard the word must be formed on.
+    *   Output:  true if the word is in the dictionary and can be formed on the board.
+    */
+
+    Boolean isValid(String word, GameBoard board) {
+        Vertex[][] vertices = board.getVertices();
+        if ((vertices.length * vertices.length) > BoardSolver.MASK_CELLS) {
+            return this.isValid(word, board.getPackedBoard());
+        }
+        if (word.isEmpty()) {
+            return false;
+        }
+
+        char[] letters = word.toCharArray();
+        for (Vertex[] row : vertices) {
+            for (Vertex vertex : row) {
+                if ((vertex.getChar() == letters[0]) && this.isValidFrom(letters, vertex)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /*
+    *       The isValidFrom() method checks if the word is in the dictionary and can be formed on the board starting
+    *   from the inputted vertex. The board can have at most 64 cells.
+    *
+    *   Input:   word - a char[] representing the word to be validated.
+    *            start - a vertex to start the search from.
+    *   Output:  true if the word was found in the dictionary and on the board.
+    */
+
+    Boolean isValidFrom(char[] word, Vertex start) {
+        return (word.length > 0) && this.search(word, start, Lexicon.ROOT, 0, 0L);
+    }
+
+    /*
+    *       The search() method checks if the rest of the word, starting at letter i, can be formed starting with the
+    *   tile on vert.
+    *
+    *   Input:   word - the word to be validated.
+    *            vert - the vertex whose tile should match the word starting at word[i].
+    *            node - the dictionary node for word[0..i - 1].
+    *            i - the index of the first letter matched by vert.
+    *            visited - a bitmask of the cells already used by the path (not including vert).
+    *   Output:  true if the word can be completed from vert.
+    */
+
+    private boolean search(char[] word, Vertex vert, int node, int i, long visited) {
+        String tile = vert.getTile();
+        if ((i + tile.length()) > word.length) {
+            return false;
+        }
+        for (int t = 0; t < tile.length(); t++) {
+            if (word[i + t] != tile.charAt(t)) {
+                return false;
+            }
+            node = _lexicon.getChild(node, word[i + t]);
+            if (node == Lexicon.NO_NODE) {
+                return false;
+            }
+        }
+
+        int next = i + tile.length();
+        if (next == word.length) {
+            return _lexicon.isWord(node);
+        }
+
+        long mask = visited | (1L << vert.getIndex());
+        for (Vertex neighbor : vert.getNeighbors()) {
+            if (((mask & (1L << neighbor.getIndex())) == 0) && this.search(word, neighbor, node, next, mask)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /*
+    *       The isValid() method for PackedBoards finds the cells that match the start of the word and searches from
+    *   each of them until the word is found, without allocating any objects on boards of up to 64 cells.
+    *
+    *   Input:   word - the word to be validated.
+    *            board - the PackedBoard the word must be formed on.
+    *   Output:  true if the word is in the dictionary and can be formed on the board.
+    */
+
+    boolean isValid(CharSequence word, PackedBoard board) {
+        int numCells = board.getNumCells();
+        long[] visited = null;
+        if (numCells > BoardSolver.MASK_CELLS) {
+            visited = new long[(numCells + (Long.SIZE - 1)) / Long.SIZE];
+        }
+        for (int cell = 0; cell < numCells; cell++) {
+            int next = WordValidator.matchTile(word, 0, board.getLetter(cell));
+            if (next > 0) {
+                int node = WordValidator.follow(_lexicon, Lexicon.ROOT, word, 0, next);
+                boolean found = (node != Lexicon.NO_NODE) && ((visited == null)
+                        ? this.search(word, board, cell, node, next, 0L)
+                        : this.searchLarge(word, board, cell, node, next, visited));
+                if (found) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /*
+    *       The matchTile() method checks if a tile matches the word starting at letter i.
+    *
+    *   Input:   word - the word being validated.
+    *            i - the index of the first letter the tile should match.
+    *            tile - the alphabet index of the tile.
+    *   Output:  the index of the first letter after the tile, or -1 if the tile does not match.
+    */
+
+    private static int matchTile(CharSequence word, int i, int tile) {
+        if (i >= word.length()) {
+            return -1;
+        }
+        if (tile == PackedBoard.QU) {
+            boolean qu = ((i + 1) < word.length()) && (word.charAt(i) == 'q') && (word.charAt(i + 1) == 'u');
+            return qu ? (i + 2) : -1;
+        }
+        return ((word.charAt(i) - 'a') == tile) ? (i + 1) : -1;
+    }
+
+    /*
+    *       The follow() method follows letters from..to - 1 of the word from a dictionary node.
+    *
+    *   Input:   lexicon - the dictionary.
+    *            node - the node to start from.
+    *            word - the word being validated.
+    *            from, to - the range of letters to follow.
+    *   Output:  the node reached, or NO_NODE if there is none.
+    */
+
+    private static int follow(Lexicon lexicon, int node, CharSequence word, int from, int to) {
+        for (int i = from; (i < to) && (node != Lexicon.NO_NODE); i++) {
+            node = lexicon.getChild(node, word.charAt(i));
+        }
+        return node;
+    }
+
+    /*
+    *       The search() method for PackedBoards checks if the rest of the word, starting at letter i, can be formed
+    *   from the neighbors of a cell that was already matched. The next tile can only be the letter word[i] (one
+    *   letter), or the Qu tile if the word continues with "qu" (two letters), so the dictionary nodes for both are
+    *   found once, before looking at the neighbors.
+    *
+    *   Input:   word - the word to be validated.
+    *            board - the PackedBoard being searched.
+    *            cell - the cell matching the letters before word[i].
+    *            node - the dictionary node for word[0..i - 1].
+    *            i - the index of the next letter to be matched.
+    *            visited - a bitmask of the cells already used by the path (not including cell).
+    *   Output:  true if the word can be completed from cell.
+    */
+
+    private boolean search(CharSequence word, PackedBoard board, int cell, int node, int i, long visited) {
+        if (i == word.length()) {
+            return _lexicon.isWord(node);
+        }
+
+        char next = word.charAt(i);
+        int child = _lexicon.getChild(node, next);
+        if (child == Lexicon.NO_NODE) {
+            return false;
+        }
+        int letter = next - 'a';
+        int quChild = Lexicon.NO_NODE;
+        if ((next == 'q') && ((i + 1) < word.length()) && (word.charAt(i + 1) == 'u')) {
+            quChild = _lexicon.getChild(child, 'u');
+        }
+
+        long mask = visited | (1L << cell);
+        int end = board.getNeighborEnd(cell);
+        for (int k = board.getNeighborStart(cell); k < end; k++) {
+            int neighbor = board.getNeighbor(k);
+            if ((mask & (1L << neighbor)) == 0) {
+                int tile = board.getLetter(neighbor);
+                if (((tile == letter) && this.search(word, board, neighbor, child, i + 1, mask))
+                        || ((tile == PackedBoard.QU) && (quChild != Lexicon.NO_NODE)
+                        && this.search(word, board, neighbor, quChild, i + 2, mask))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /*
+    *       The searchLarge() method is the same search as search() for PackedBoards with more than 64 cells. The
+    *   cell's bit is set in the bitmap while its neighbors are searched and cleared afterwards.
+    *
+    *   Input:   word - the word to be validated.
+    *            board - the PackedBoard being searched.
+    *            cell - the cell matching the letters before word[i].
+    *            node - the dictionary node for word[0..i - 1].
+    *            i - the index of the next letter to be matched.
+    *            visited - a bitmap of the cells already used by the path (not including cell), one bit per cell.
+    *   Output:  true if the word can be completed from cell.
+    */
+
+    private boolean searchLarge(CharSequence word, PackedBoard board, int cell, int node, int i, long[] visited) {
+        if (i == word.length()) {
+            return _lexicon.isWord(node);
+        }
+
+        char next = word.charAt(i);
+        int child = _lexicon.getChild(node, next);
+        if (child == Lexicon.NO_NODE) {
+            return false;
+        }
+        int letter = next - 'a';
+        int quChild = Lexicon.NO_NODE;
+        if ((next == 'q') && ((i + 1) < word.length()) && (word.charAt(i + 1) == 'u')) {
+            quChild = _lexicon.getChild(child, 'u');
+        }
+
+        boolean found = false;
+        visited[cell >>> 6] |= (1L << cell);
+        int end = board.getNeighborEnd(cell);
+        for (int k = board.getNeighborStart(cell); (k < end) && !found; k++) {
+            int neighbor = board.getNeighbor(k);
+            if ((visited[neighbor >>> 6] & (1L << neighbor)) == 0) {
+                int tile = board.getLetter(neighbor);
+                found = ((tile == letter) && this.searchLarge(word, board, neighbor, child, i + 1, visited))
+                        || ((tile == PackedBoard.QU) && (quChild != Lexicon.NO_NODE)
+                        && this.searchLarge(word, board, neighbor, quChild, i + 2, visited));
+            }
+        }
+        visited[cell >>> 6] &= ~(1L << cell);
+        return found;
+    }
+}
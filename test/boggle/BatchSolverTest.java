@@ -0,0 +1,65 @@
+package boggle;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Locale;
+import org.junit.jupiter.api.Test;
+
+/**
+ * BatchSolverTest Class
+ * <p>
+ * Checks the JSON lines written by the BatchSolver: one per board in input order, with the board written back in
+ * lowercase whatever the default locale, and the word count limited to the words that score points.
+ **/
+
+class BatchSolverTest {
+    private static final String BOARD = "toarrbedteifdaienocerians";
+
+    private static String[] run(String input, boolean includeWords) throws IOException {
+        StringWriter out = new StringWriter();
+        BatchSolver batchSolver = new BatchSolver(DictionaryService.get(), includeWords, 2);
+        batchSolver.run(new BufferedReader(new StringReader(input)), out);
+        return out.toString().split("\n");
+    }
+
+    @Test
+    void writesOneLinePerBoardInOrder() throws IOException {
+        AnswerSet answers = new BoardSolver(DictionaryService.get()).solve(BatchSolver.parse(BOARD));
+        StringBuilder input = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            input.append((i == 500) ? "abc" : BOARD).append('\n');
+        }
+        input.append("\n");
+
+        String[] lines = BatchSolverTest.run(input.toString(), false);
+        assertEquals(1000, lines.length);
+        String expected = "{\"board\":\"" + BOARD + "\",\"words\":" + answers.getNumScoringWords() + ",\"maxScore\":"
+                + answers.getMaxScore() + "}";
+        for (int i = 0; i < lines.length; i++) {
+            if (i == 500) {
+                assertEquals("{\"line\":501,\"error\":\"3 letters do not make a square board\"}", lines[i]);
+            } else {
+                assertEquals(expected, lines[i]);
+            }
+        }
+        assertTrue(answers.getNumScoringWords() < answers.size());
+    }
+
+    @Test
+    void writesBoardsInLowercaseInEveryLocale() throws IOException {
+        Locale locale = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+        try {
+            String[] lines = BatchSolverTest.run(BOARD.toUpperCase(Locale.ROOT) + "\n", true);
+            assertTrue(lines[0].startsWith("{\"board\":\"" + BOARD + "\""), lines[0]);
+            assertTrue(lines[0].contains("\"wordList\":[\""), lines[0]);
+        } finally {
+            Locale.setDefault(locale);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package boggle;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * BoardCorpusTest Class
+ * <p>
+ * Checks that boards written by a BoardCorpus.Appender are read back exactly, with and without answers, and that a
+ * corpus whose writer stopped before closing it can still be opened and appended to.
+ **/
+
+class BoardCorpusTest {
+    private static final int NUM_BOARDS = 1000;
+
+    @TempDir
+    Path dir;
+
+    private static AnswerSet[] solveBoards(int dim, int numBoards) {
+        BoardSolver solver = new BoardSolver(DictionaryService.get());
+        BoardGenerator generator = new BoardGenerator(42);
+        AnswerSet[] boards = new AnswerSet[numBoards];
+        for (int i = 0; i < numBoards; i++) {
+            boards[i] = solver.solve(generator.nextBoard(dim));
+        }
+        return boards;
+    }
+
+    private static void assertBoards(AnswerSet[] expected, BoardCorpus corpus) {
+        assertEquals(expected.length, corpus.getNumBoards());
+        for (int i = 0; i < expected.length; i++) {
+            PackedBoard board = expected[i].getBoard();
+            PackedBoard read = corpus.getBoard(i);
+            for (int cell = 0; cell < board.getNumCells(); cell++) {
+                assertEquals(board.getLetter(cell), read.getLetter(cell), "board " + i + ", cell " + cell);
+            }
+            assertEquals(expected[i].getNumScoringWords(), corpus.getWordCount(i));
+            assertEquals(expected[i].getMaxScore(), corpus.getMaxScore(i));
+        }
+    }
+
+    @Test
+    void readsBackWhatWasWritten() throws IOException {
+        for (int dim = 3; dim <= 6; dim++) {
+            AnswerSet[] boards = BoardCorpusTest.solveBoards(dim, NUM_BOARDS);
+            Path path = dir.resolve("corpus-" + dim + ".bin");
+            try (BoardCorpus.Appender appender = new BoardCorpus.Appender(path, dim, null)) {
+                for (int i = 0; i < boards.length; i++) {
+                    assertEquals(i, appender.add(boards[i]));
+                }
+            }
+
+            BoardCorpus corpus = BoardCorpus.open(path, DictionaryService.get());
+            assertEquals(dim, corpus.getDim());
+            BoardCorpusTest.assertBoards(boards, corpus);
+            assertThrows(IllegalStateException.class, () -> corpus.containsWord(0, "tree"));
+            assertThrows(IndexOutOfBoundsException.class, () -> corpus.getBoard(NUM_BOARDS));
+        }
+    }
+
+    @Test
+    void readsBackAnswers() throws IOException {
+        Lexicon trie = DictionaryService.get();
+        AnswerSet[] boards = BoardCorpusTest.solveBoards(4, 20);
+        Path path = dir.resolve("answers.bin");
+        try (BoardCorpus.Appender appender = new BoardCorpus.Appender(path, 4, trie)) {
+            for (AnswerSet answers : boards) {
+                appender.add(answers);
+            }
+        }
+
+        BoardCorpus corpus = BoardCorpus.open(path, trie);
+        for (int i = 0; i < boards.length; i++) {
+            int numFound = 0;
+            for (int id = 0; id < trie.getNumWords(); id++) {
+                String word = trie.getWord(id);
+                assertEquals(boards[i].contains(word), corpus.containsWord(i, word), word + " on board " + i);
+                numFound += corpus.containsWord(i, word) ? 1 : 0;
+            }
+            assertEquals(boards[i].size(), numFound);
+        }
+    }
+
+    @Test
+    void appendsToAnExistingCorpus() throws IOException {
+        AnswerSet[] boards = BoardCorpusTest.solveBoards(4, NUM_BOARDS);
+        Path path = dir.resolve("append.bin");
+        try (BoardCorpus.Appender appender = new BoardCorpus.Appender(path, 4, null)) {
+            for (int i = 0; i < (NUM_BOARDS / 2); i++) {
+                appender.add(boards[i]);
+            }
+        }
+        try (BoardCorpus.Appender appender = new BoardCorpus.Appender(path, 4, null)) {
+            for (int i = NUM_BOARDS / 2; i < NUM_BOARDS; i++) {
+                assertEquals(i, appender.add(boards[i]));
+            }
+        }
+        BoardCorpusTest.assertBoards(boards, BoardCorpus.open(path, DictionaryService.get()));
+        assertThrows(IOException.class, () -> new BoardCorpus.Appender(path, 5, null));
+    }
+
+    @Test
+    void opensACorpusWhoseWriterCrashed() throws IOException {
+        AnswerSet[] boards = BoardCorpusTest.solveBoards(4, NUM_BOARDS);
+        Path path = dir.resolve("crashed.bin");
+        BoardCorpus.Appender crashed = new BoardCorpus.Appender(path, 4, null);
+        for (int i = 0; i < (NUM_BOARDS / 2); i++) {
+            crashed.add(boards[i]);
+        }
+        crashed.flush();
+        BoardCorpusTest.assertBoards(Arrays.copyOf(boards, NUM_BOARDS / 2),
+                BoardCorpus.open(path, DictionaryService.get()));
+
+        //Write the header back as it was before any boards were added, and leave half a record at the end.
+        BoardCorpusTest.setHeaderCount(path, 0);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.allocate(5));
+        }
+        BoardCorpusTest.assertBoards(Arrays.copyOf(boards, NUM_BOARDS / 2),
+                BoardCorpus.open(path, DictionaryService.get()));
+
+        try (BoardCorpus.Appender appender = new BoardCorpus.Appender(path, 4, null)) {
+            for (int i = NUM_BOARDS / 2; i < NUM_BOARDS; i++) {
+                assertEquals(i, appender.add(boards[i]));
+            }
+        }
+        BoardCorpusTest.assertBoards(boards, BoardCorpus.open(path, DictionaryService.get()));
+    }
+
+    @Test
+    void rejectsATruncatedCorpus() throws IOException {
+        Path path = dir.resolve("truncated.bin");
+        try (BoardCorpus.Appender appender = new BoardCorpus.Appender(path, 4, null)) {
+            for (AnswerSet answers : BoardCorpusTest.solveBoards(4, 10)) {
+                appender.add(answers);
+            }
+        }
+        BoardCorpusTest.setHeaderCount(path, 11);
+        assertThrows(IOException.class, () -> BoardCorpus.open(path, DictionaryService.get()));
+    }
+
+    private static void setHeaderCount(Path path, long numBoards) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            ByteBuffer count = ByteBuffer.allocate(Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            count.putLong(0, numBoards);
+            channel.write(count, BoardCorpus.HEADER_BYTES - Long.BYTES);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package boggle;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * BoardFilterTest Class
+ * <p>
+ * Checks that the BoardFilter only serves boards inside its range, counting only the words that score points.
+ **/
+
+class BoardFilterTest {
+
+    @Test
+    void countsOnlyScoringWords() {
+        AnswerSet answers = new AnswerSet(BatchSolver.parse("catsxxxxxxxxxxxx"));
+        answers.add("at", new int[]{1, 2}, 2);
+        answers.add("cat", new int[]{0, 1, 2}, 3);
+        answers.add("cats", new int[]{0, 1, 2, 3}, 4);
+        answers.add("cat", new int[]{0, 1, 2}, 3);
+
+        assertEquals(3, answers.size());
+        assertEquals(2, answers.getNumScoringWords());
+        assertEquals(3, answers.getMaxScore());
+
+        Lexicon trie = DictionaryService.get();
+        assertTrue(new BoardFilter(trie, new BoardGenerator(42), 2, 2, 0, 3).accepts(answers));
+        assertFalse(new BoardFilter(trie, new BoardGenerator(42), 3, 3, 0, 3).accepts(answers));
+    }
+
+    @Test
+    void servesOnlyBoardsInsideTheRange() {
+        BoardFilter filter = new BoardFilter(DictionaryService.get(), new BoardGenerator(42), 50, 120, 80, 300);
+        for (int i = 0; i < 200; i++) {
+            AnswerSet answers = filter.nextBoard(4);
+            int numWords = answers.getNumScoringWords();
+            assertTrue((numWords >= 50) && (numWords <= 120), numWords + " words");
+            int score = answers.getMaxScore();
+            assertTrue((score >= 80) && (score <= 300), score + " points");
+        }
+        assertEquals(200, filter.getNumAccepted());
+        assertTrue(filter.getNumAttempts() >= filter.getNumAccepted());
+    }
+
+    @Test
+    void givesUpOnRangesOutOfReach() {
+        BoardFilter filter = new BoardFilter(DictionaryService.get(), new BoardGenerator(42), 0, 0, 1000, 1000);
+        assertThrows(IllegalStateException.class, () -> filter.nextBoard(4));
+        assertThrows(IllegalArgumentException.class,
+                () -> new BoardFilter(DictionaryService.get(), new BoardGenerator(42), 2, 1, 0, 0));
+    }
+}
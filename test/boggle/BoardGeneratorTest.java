@@ -0,0 +1,77 @@
+package boggle;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+/**
+ * BoardGeneratorTest Class
+ * <p>
+ * Checks that a seeded BoardGenerator always rolls the same boards, whether they are generated one at a time, in bulk
+ * or from split generators, and that the dice are rolled under the "max 4 of a letter" rule.
+ **/
+
+class BoardGeneratorTest {
+    private static final int NUM_BOARDS = 1000;
+
+    @Test
+    void sameSeedGeneratesSameBoards() {
+        for (int dim = 4; dim <= 8; dim++) {
+            BoardGenerator first = new BoardGenerator(42);
+            BoardGenerator second = new BoardGenerator(42);
+            for (int i = 0; i < NUM_BOARDS; i++) {
+                assertArrayEquals(first.nextLetters(dim), second.nextLetters(dim), dim + "x" + dim + " board " + i);
+            }
+        }
+    }
+
+    @Test
+    void differentSeedsGenerateDifferentBoards() {
+        assertFalse(Arrays.equals(new BoardGenerator(1).nextLetters(5), new BoardGenerator(2).nextLetters(5)));
+    }
+
+    @Test
+    void bulkGenerationMatchesSingleBoards() {
+        int dim = 5;
+        int numCells = dim * dim;
+        byte[] out = new byte[NUM_BOARDS * numCells];
+        new BoardGenerator(42).nextBoards(dim, out, NUM_BOARDS);
+
+        BoardGenerator single = new BoardGenerator(42);
+        for (int i = 0; i < NUM_BOARDS; i++) {
+            assertArrayEquals(single.nextLetters(dim), Arrays.copyOfRange(out, i * numCells, (i + 1) * numCells));
+        }
+    }
+
+    @Test
+    void splitGeneratorsAreReproducible() {
+        BoardGenerator first = new BoardGenerator(42).split();
+        BoardGenerator second = new BoardGenerator(42).split();
+        for (int i = 0; i < NUM_BOARDS; i++) {
+            assertArrayEquals(first.nextLetters(4), second.nextLetters(4));
+        }
+    }
+
+    @Test
+    void rollsAtMostFourOfALetter() {
+        BoardGenerator generator = new BoardGenerator(42);
+        for (int i = 0; i < NUM_BOARDS; i++) {
+            int[] counts = new int[PackedBoard.NUM_TILES];
+            for (byte letter : generator.nextLetters(4)) {
+                counts[letter]++;
+            }
+            for (int count : counts) {
+                assertTrue(count <= BoardGenerator.MAX_LETTER_COUNT);
+            }
+        }
+    }
+
+    @Test
+    void rejectsEmptyBoards() {
+        assertThrows(IllegalArgumentException.class, () -> new BoardGenerator(42).nextLetters(0));
+    }
+}
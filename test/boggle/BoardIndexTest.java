@@ -0,0 +1,92 @@
+package boggle;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * BoardIndexTest Class
+ * <p>
+ * Checks the queries of a BoardIndex built from seeded boards against a scan of every board's AnswerSet, so that a
+ * query returns exactly the boards that match it.
+ **/
+
+class BoardIndexTest {
+    private static final int NUM_BOARDS = 2000;
+    private static final String[][] QUERIES = {{"quit"}, {"quixotic"}, {"tree"}, {"tree", "rest"},
+            {"the", "one", "ten", "tea"}, {"notaword"}};
+
+    @TempDir
+    static Path dir;
+
+    private static Lexicon trie;
+    private static ArrayList<AnswerSet> boards;
+    private static BoardIndex index;
+
+    @BeforeAll
+    static void buildIndex() throws IOException {
+        trie = DictionaryService.get();
+        BoardSolver solver = new BoardSolver(trie);
+        BoardGenerator generator = new BoardGenerator(42);
+        BoardIndex.Builder builder = new BoardIndex.Builder(trie, 5);
+        boards = new ArrayList<>();
+        for (int i = 0; i < NUM_BOARDS; i++) {
+            AnswerSet answers = solver.solve(generator.nextBoard(5));
+            assertEquals(i, builder.add(answers));
+            boards.add(answers);
+        }
+        Path path = dir.resolve("board-index.bin");
+        builder.write(path);
+        index = BoardIndex.map(path, trie);
+    }
+
+    @Test
+    void storesEveryBoard() {
+        assertEquals(5, index.getDim());
+        assertEquals(NUM_BOARDS, index.getNumBoards());
+        for (int i = 0; i < NUM_BOARDS; i++) {
+            PackedBoard board = boards.get(i).getBoard();
+            PackedBoard stored = index.getBoard(i);
+            for (int cell = 0; cell < board.getNumCells(); cell++) {
+                assertEquals(board.getLetter(cell), stored.getLetter(cell));
+            }
+            assertEquals(boards.get(i).getNumScoringWords(), index.getWordCount(i));
+        }
+    }
+
+    @Test
+    void findsExactlyTheMatchingBoards() {
+        for (String[] words : QUERIES) {
+            for (int minWords : new int[]{0, 200}) {
+                ArrayList<Integer> expected = new ArrayList<>();
+                for (int i = 0; i < NUM_BOARDS; i++) {
+                    AnswerSet answers = boards.get(i);
+                    boolean matches = answers.getNumScoringWords() >= minWords;
+                    for (String word : words) {
+                        matches &= answers.contains(word);
+                    }
+                    if (matches) {
+                        expected.add(i);
+                    }
+                }
+                int[] found = index.find(words, minWords);
+                assertArrayEquals(expected.stream().mapToInt(Integer::intValue).toArray(), found,
+                        String.join(",", words) + " with at least " + minWords + " words");
+            }
+        }
+    }
+
+    @Test
+    void rejectsAnotherDictionary() {
+        DictTrie other = new DictTrie();
+        other.add("cat");
+        assertThrows(IOException.class, () -> BoardIndex.map(dir.resolve("board-index.bin"), other));
+    }
+}
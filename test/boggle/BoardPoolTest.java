@@ -0,0 +1,64 @@
+package boggle;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * BoardPoolTest Class
+ * <p>
+ * Checks that a BoardPool serves solved boards, and that take() fails instead of waiting forever once the pool is
+ * closed or one of its workers has failed.
+ **/
+
+class BoardPoolTest {
+
+    @Test
+    void servesSolvedBoards() {
+        BoardPool pool = new BoardPool(DictionaryService.get(), 4, 4, 1);
+        try {
+            for (int i = 0; i < 10; i++) {
+                AnswerSet answers = pool.take();
+                assertEquals(4, answers.getDim());
+                assertTrue(answers.getNumScoringWords() <= answers.size());
+            }
+            assertEquals(10, pool.getNumTaken());
+            assertNull(pool.getFailure());
+        } finally {
+            pool.close();
+        }
+    }
+
+    @Test
+    void takeFailsOnceTheWorkersFail() {
+        //No board has this many words, so the worker's BoardFilter gives up with an IllegalStateException.
+        System.setProperty(BoardFilter.MIN_WORDS_PROPERTY, Integer.toString(Integer.MAX_VALUE));
+        BoardPool pool;
+        try {
+            pool = new BoardPool(DictionaryService.get(), 4, 4, 2);
+        } finally {
+            System.clearProperty(BoardFilter.MIN_WORDS_PROPERTY);
+        }
+
+        IllegalStateException ex = assertThrows(IllegalStateException.class, pool::take);
+        assertInstanceOf(IllegalStateException.class, ex.getCause());
+        assertEquals(pool.getFailure(), ex.getCause());
+        assertThrows(IllegalStateException.class, pool::take);
+    }
+
+    @Test
+    void takeFailsOnceClosedAndEmpty() {
+        BoardPool pool = new BoardPool(DictionaryService.get(), 4, 1, 1);
+        pool.close();
+        while (pool.getDepth() > 0) {
+            pool.take();
+        }
+
+        IllegalStateException ex = assertThrows(IllegalStateException.class, pool::take);
+        assertNull(ex.getCause());
+    }
+}
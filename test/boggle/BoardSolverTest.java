@@ -0,0 +1,38 @@
+package boggle;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import org.junit.jupiter.api.Test;
+
+/**
+ * BoardSolverTest Class
+ * <p>
+ * Checks that solveParallel() finds the same words, in the same order and with the same paths, as solve() on seeded
+ * boards, both on boards whose visited cells fit in one long and on boards that need the long[] bitmap.
+ **/
+
+class BoardSolverTest {
+    private static final int NUM_BOARDS = 20;
+
+    @Test
+    void parallelSolveMatchesSolve() {
+        BoardSolver solver = new BoardSolver(DictionaryService.get());
+        BoardGenerator generator = new BoardGenerator(42);
+        //8x8 is the largest board that fits in the long bitmask; 9x9 and 12x12 use the long[] bitmap.
+        for (int dim : new int[]{4, 5, 6, 8, 9, 12}) {
+            for (int i = 0; i < NUM_BOARDS; i++) {
+                PackedBoard board = generator.nextBoard(dim);
+                AnswerSet expected = solver.solve(board);
+                AnswerSet actual = solver.solveParallel(board);
+
+                String name = dim + "x" + dim + " board " + i;
+                assertEquals(new ArrayList<>(expected.getWords()), new ArrayList<>(actual.getWords()), name);
+                for (String word : expected.getWords()) {
+                    assertArrayEquals(expected.getPath(word), actual.getPath(word), word + " on " + name);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package boggle;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import org.junit.jupiter.api.Test;
+
+/**
+ * DawgTest Class
+ * <p>
+ * Checks that a Dawg built from the full word list accepts exactly the words the DictTrie accepts, gives them the same
+ * alphabetical IDs, and is smaller than the trie.
+ **/
+
+class DawgTest {
+    private static final String[] NON_WORDS = {"", "zzzz", "qqq", "abcdefghij", "catx"};
+
+    @Test
+    void matchesTrieOverTheWordList() throws IOException {
+        DictTrie trie = new DictTrie();
+        new LineReader(trie).addToDict();
+        Dawg.Builder builder = new Dawg.Builder();
+        new LineReader(builder).addToDict();
+        Dawg dawg = builder.build();
+
+        assertEquals(trie.getNumWords(), dawg.getNumWords());
+        for (int id = 0; id < trie.getNumWords(); id++) {
+            String word = trie.getWord(id);
+            assertTrue(dawg.containsWord(word), word);
+            assertEquals(id, dawg.getWordId(word), word);
+            assertEquals(word, dawg.getWord(id));
+
+            //The first half of a word is usually not a word itself.
+            String prefix = word.substring(0, (word.length() + 1) / 2);
+            assertEquals(trie.containsWord(prefix), dawg.containsWord(prefix), prefix);
+            assertEquals(trie.getWordId(prefix), dawg.getWordId(prefix), prefix);
+        }
+        for (String word : NON_WORDS) {
+            assertFalse(dawg.containsWord(word), word);
+            assertEquals(Lexicon.NO_WORD, dawg.getWordId(word), word);
+        }
+        assertTrue(dawg.getNumNodes() < trie.getNumNodes());
+    }
+}
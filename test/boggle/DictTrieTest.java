@@ -0,0 +1,45 @@
+package boggle;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * DictTrieTest Class
+ * <p>
+ * Checks that the DictTrie accepts the same words as the Dawg: lowercase letters only, with anything else rejected
+ * before the trie is changed.
+ **/
+
+class DictTrieTest {
+
+    @Test
+    void addsAndNumbersWords() {
+        DictTrie trie = new DictTrie();
+        trie.add("cat");
+        trie.add("cats");
+        trie.add("dog");
+
+        assertTrue(trie.containsWord("cats"));
+        assertFalse(trie.containsWord("ca"));
+        assertEquals(3, trie.getNumWords());
+        assertEquals("dog", trie.getWord(trie.getWordId("dog")));
+    }
+
+    @Test
+    void rejectsWordsThatAreNotLowercaseLetters() {
+        DictTrie trie = new DictTrie();
+        trie.add("cat");
+        int numNodes = trie.getNumNodes();
+
+        for (String word : new String[]{"Cat", "can't", "caté", "ca t"}) {
+            assertThrows(IllegalArgumentException.class, () -> trie.add(word));
+            assertThrows(IllegalArgumentException.class, () -> new Dawg.Builder().add(word));
+        }
+        assertEquals(numNodes, trie.getNumNodes());
+        assertEquals(1, trie.getNumWords());
+    }
+}
@@ -0,0 +1,83 @@
+package boggle;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * DictionaryFileTest Class
+ * <p>
+ * Checks that a DictTrie and a Dawg compiled to a DictionaryFile and mapped back as a MappedLexicon accept exactly the
+ * words of the DictTrie, with the same alphabetical IDs, and that truncated files are rejected.
+ **/
+
+class DictionaryFileTest {
+    private static final String[] NON_WORDS = {"", "zzzz", "qqq", "abcdefghij", "catx"};
+
+    @TempDir
+    static Path dir;
+
+    private static DictTrie _trie;
+    private static Dawg _dawg;
+
+    @BeforeAll
+    static void setUp() throws IOException {
+        _trie = new DictTrie();
+        new LineReader(_trie).addToDict();
+        Dawg.Builder builder = new Dawg.Builder();
+        new LineReader(builder).addToDict();
+        _dawg = builder.build();
+    }
+
+    private static void assertMatchesTrie(MappedLexicon mapped) {
+        assertEquals(_trie.getNumWords(), mapped.getNumWords());
+        for (int id = 0; id < _trie.getNumWords(); id++) {
+            String word = _trie.getWord(id);
+            assertTrue(mapped.containsWord(word), word);
+            assertEquals(id, mapped.getWordId(word), word);
+            assertEquals(word, mapped.getWord(id));
+
+            //The first half of a word is usually not a word itself.
+            String prefix = word.substring(0, (word.length() + 1) / 2);
+            assertEquals(_trie.containsWord(prefix), mapped.containsWord(prefix), prefix);
+            assertEquals(_trie.getWordId(prefix), mapped.getWordId(prefix), prefix);
+        }
+        for (String word : NON_WORDS) {
+            assertFalse(mapped.containsWord(word), word);
+            assertEquals(Lexicon.NO_WORD, mapped.getWordId(word), word);
+        }
+    }
+
+    @Test
+    void mappedTrieMatchesTrie() throws IOException {
+        Path path = dir.resolve("trie.dict");
+        DictionaryFile.write(_trie, path);
+        DictionaryFileTest.assertMatchesTrie(DictionaryFile.map(path));
+    }
+
+    @Test
+    void mappedDawgMatchesTrie() throws IOException {
+        Path path = dir.resolve("dawg.dict");
+        DictionaryFile.write(_dawg, path);
+        DictionaryFileTest.assertMatchesTrie(DictionaryFile.map(path));
+    }
+
+    @Test
+    void rejectsTruncatedFiles() throws IOException {
+        Path path = dir.resolve("truncated.dict");
+        DictionaryFile.write(_dawg, path);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 1);
+        }
+        assertThrows(IOException.class, () -> DictionaryFile.map(path));
+    }
+}
@@ -0,0 +1,270 @@
+package boggle;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * EventJournalTest Class
+ * <p>
+ * Checks that an EventJournal records everything that happens in a Round: replaying the journal into a new Round on
+ * each recorded board must give the same events, points and final scores, across chunk boundaries and after the
+ * journal is reopened, and a journal whose last event was torn by a crash must end cleanly before it.
+ **/
+
+class EventJournalTest {
+    private static final int SMALL_CHUNK_BYTES = 4096;
+
+    @TempDir
+    Path dir;
+
+    /*
+    *       The play() method records a round on a seeded board, and submits every word on it twice, a word that is not
+    *   on it and a word longer than MAX_WORD_BYTES. Every other round runs out of time, and the rest are stopped.
+    */
+
+    private static void play(EventJournal journal, Lexicon trie, AnswerSet answers, boolean stop) {
+        Round round = new Round(trie, answers);
+        journal.record(round);
+        for (int repeat = 0; repeat < 2; repeat++) {
+            for (String word : answers.getWords()) {
+                round.searchBoard(word);
+            }
+        }
+        round.searchBoard("zzzz");
+        round.searchBoard("é".repeat(200));
+        if (stop) {
+            round.stop();
+        } else {
+            for (int i = 0; i <= Round.ROUND_SECONDS; i++) {
+                round.tick();
+            }
+        }
+    }
+
+    private static ArrayList<AnswerSet> solveBoards(int numBoards) {
+        BoardSolver solver = new BoardSolver(DictionaryService.get());
+        BoardGenerator generator = new BoardGenerator(42);
+        ArrayList<AnswerSet> boards = new ArrayList<>();
+        for (int i = 0; i < numBoards; i++) {
+            boards.add(solver.solve(generator.nextBoard(4)));
+        }
+        return boards;
+    }
+
+    @Test
+    void replayMatchesEveryRound() throws IOException {
+        Lexicon trie = DictionaryService.get();
+        ArrayList<AnswerSet> boards = EventJournalTest.solveBoards(100);
+        Path path = dir.resolve("journal.bin");
+        long numEvents;
+        try (EventJournal journal = new EventJournal(path, SMALL_CHUNK_BYTES)) {
+            for (int i = 0; i < boards.size(); i++) {
+                EventJournalTest.play(journal, trie, boards.get(i), (i % 2) == 1);
+            }
+            numEvents = journal.getNumEvents();
+        }
+        assertTrue(Files.size(path) > (10 * SMALL_CHUNK_BYTES));
+
+        Audit audit = new Audit(trie);
+        EventJournal.replay(path, audit);
+        assertEquals(numEvents, audit._numEvents);
+        assertEquals(boards.size(), audit._numRounds);
+        assertEquals(boards.size() / 2, audit._numStopped);
+        assertTrue(audit._numTooShort > 0);
+        assertEquals(audit._numRounds, audit._numEnded);
+    }
+
+    @Test
+    void reopenedJournalContinuesTheRoundIds() throws IOException {
+        Lexicon trie = DictionaryService.get();
+        ArrayList<AnswerSet> boards = EventJournalTest.solveBoards(10);
+        Path path = dir.resolve("reopened.bin");
+        for (int i = 0; i < boards.size(); i++) {
+            try (EventJournal journal = new EventJournal(path, SMALL_CHUNK_BYTES)) {
+                EventJournalTest.play(journal, trie, boards.get(i), false);
+            }
+        }
+        try (EventJournal journal = new EventJournal(path)) {
+            assertEquals(SMALL_CHUNK_BYTES, journal.getChunkBytes());
+            assertEquals(boards.size(), journal.record(new Round(trie, boards.get(0))));
+        }
+
+        Audit audit = new Audit(trie);
+        EventJournal.replay(path, audit);
+        assertEquals(boards.size() + 1, audit._numRounds);
+        assertEquals(boards.size(), audit._numEnded);
+    }
+
+    @Test
+    void tornEventEndsTheJournal() throws IOException {
+        Lexicon trie = DictionaryService.get();
+        ArrayList<AnswerSet> boards = EventJournalTest.solveBoards(3);
+        Path path = dir.resolve("torn.bin");
+        try (EventJournal journal = new EventJournal(path, SMALL_CHUNK_BYTES)) {
+            EventJournalTest.play(journal, trie, boards.get(0), false);
+        }
+        Audit audit = new Audit(trie);
+        EventJournal.replay(path, audit);
+        long roundStart = audit._end;
+        long tornStart = roundStart + EventJournal.EVENT_HEADER_BYTES + Integer.BYTES
+                + boards.get(1).getBoard().getNumCells();
+
+        //A crash before the type byte of the word event reached the disk leaves the rest of the event behind it.
+        try (EventJournal journal = new EventJournal(path)) {
+            Round round = new Round(trie, boards.get(1));
+            journal.record(round);
+            round.searchBoard("z".repeat(100));
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(1), tornStart);
+        }
+        audit = new Audit(trie);
+        EventJournal.replay(path, audit);
+        assertEquals(2, audit._numRounds);
+        assertEquals(1, audit._numEnded);
+        assertEquals(tornStart, audit._end);
+
+        //A shorter event recorded in its place must not be followed by the leftover bytes of the torn one.
+        try (EventJournal journal = new EventJournal(path)) {
+            journal.record(new Round(trie, boards.get(2)));
+        }
+        audit = new Audit(trie);
+        EventJournal.replay(path, audit);
+        assertEquals(3, audit._numRounds);
+        assertEquals(tornStart + (tornStart - roundStart), audit._end);
+    }
+
+    @Test
+    void longWordsAreCutAtACharacterBoundary() {
+        assertEquals(3, EventJournal.getWordLength("cat".getBytes(StandardCharsets.UTF_8)));
+        assertEquals(255, EventJournal.getWordLength("a".repeat(300).getBytes(StandardCharsets.UTF_8)));
+        assertEquals(254, EventJournal.getWordLength("é".repeat(200).getBytes(StandardCharsets.UTF_8)));
+        assertEquals(255, EventJournal.getWordLength(("a" + "é".repeat(200)).getBytes(StandardCharsets.UTF_8)));
+        assertEquals(252, EventJournal.getWordLength("😀".repeat(100).getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void rejectsTinyChunks() {
+        assertThrows(IllegalArgumentException.class, () -> new EventJournal(dir.resolve("tiny.bin"), 16));
+    }
+
+    /**
+     * Audit Class
+     * <p>
+     * The Audit class replays a journal: it plays each recorded round again on a new Round, and checks that the new
+     * Round reports every recorded event the same way, with the same points and final score.
+     **/
+
+    private static class Audit implements EventJournal.Visitor {
+        private final Lexicon _trie;
+        private final HashMap<Integer, Round> _rounds;
+        private final Replay _replay;
+        private long _numEvents;
+        private int _numRounds;
+        private int _numEnded;
+        private int _numStopped;
+        private int _numTooShort;
+        private long _end;
+
+        Audit(Lexicon trie) {
+            _trie = trie;
+            _rounds = new HashMap<>();
+            _replay = new Replay();
+        }
+
+        private void submit(int roundId, String word, String expected) {
+            _numEvents++;
+            _replay._last = null;
+            _rounds.get(roundId).searchBoard(word);
+            assertEquals(expected, _replay._last, "round " + roundId);
+        }
+
+        public void journalOpened(int chunkBytes) {
+        }
+
+        public void roundStarted(int roundId, long time, PackedBoard board) {
+            _numEvents++;
+            _numRounds++;
+            Round round = new Round(_trie, new GameBoard(board));
+            round.addListener(_replay);
+            _rounds.put(roundId, round);
+        }
+
+        public void wordSubmitted(int roundId, long time, String word, boolean valid, int points) {
+            this.submit(roundId, word, "submitted " + word + " " + valid + " " + points);
+        }
+
+        public void wordRepeated(int roundId, long time, String word) {
+            this.submit(roundId, word, "repeated " + word);
+        }
+
+        public void wordTooShort(int roundId, long time, String word) {
+            _numTooShort++;
+            this.submit(roundId, word, "too short " + word);
+        }
+
+        public void roundOver(int roundId, long time, int score) {
+            _numEvents++;
+            _numEnded++;
+            assertEquals(score, _rounds.remove(roundId).getScore());
+        }
+
+        public void roundStopped(int roundId, long time, int score) {
+            _numEvents++;
+            _numEnded++;
+            _numStopped++;
+            assertEquals(score, _rounds.remove(roundId).getScore());
+        }
+
+        public void journalEnded(long end) {
+            _end = end;
+        }
+    }
+
+    /**
+     * Replay Class
+     * <p>
+     * The Replay class listens to the Rounds played by the Audit, and describes the last word event it heard.
+     **/
+
+    private static class Replay implements RoundListener {
+        private String _last;
+
+        public void wordSubmitted(String word, boolean valid, int points) {
+            _last = "submitted " + word + " " + valid + " " + points;
+        }
+
+        public void wordRepeated(String word) {
+            _last = "repeated " + word;
+        }
+
+        public void wordTooShort(String word) {
+            _last = "too short " + word;
+        }
+
+        public void scoreChanged(int score) {
+        }
+
+        public void timeChanged(int secondsRemaining) {
+        }
+
+        public void roundOver() {
+        }
+
+        public void roundStopped() {
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package boggle;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * GameServerTest Class
+ * <p>
+ * Checks that words submitted to many Rooms at once are all counted in the right Room, that a closed Room stops
+ * accepting words, and that a Room whose listener fails cannot stop the server from ticking or closing the others.
+ **/
+
+class GameServerTest {
+    private static final int NUM_ROOMS = 200;
+
+    private GameServer _server;
+
+    @BeforeEach
+    void setUp() {
+        _server = new GameServer(DictionaryService.get());
+    }
+
+    @AfterEach
+    void tearDown() {
+        _server.shutdown();
+    }
+
+    @Test
+    void everyRoomReachesItsMaxScore() throws InterruptedException, ExecutionException {
+        ArrayList<Room> rooms = new ArrayList<>();
+        for (int i = 0; i < NUM_ROOMS; i++) {
+            rooms.add(_server.openRoom(4));
+        }
+        assertEquals(NUM_ROOMS, _server.getNumRooms());
+
+        ArrayList<Future<Integer>> scores = new ArrayList<>();
+        for (Room room : rooms) {
+            for (String word : room.getAnswers().getWords()) {
+                scores.add(_server.submit(room.getId(), word));
+            }
+        }
+        for (Future<Integer> score : scores) {
+            score.get();
+        }
+
+        for (Room room : rooms) {
+            assertEquals(room.getAnswers().getMaxScore(), room.getScore(), "Room " + room.getId());
+        }
+    }
+
+    @Test
+    void closedRoomsRejectSubmissions() {
+        Room room = _server.openRoom(4);
+        _server.closeRoom(room.getId());
+
+        assertNull(_server.getRoom(room.getId()));
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> _server.submit(room.getId(), "cat").get());
+        assertInstanceOf(IllegalStateException.class, ex.getCause());
+    }
+
+    @Test
+    void failingListenerDoesNotStopTheOtherRooms() throws InterruptedException {
+        Room failing = _server.openRoom(4);
+        failing.addListener(new FailingListener());
+        Room room = _server.openRoom(4);
+        int start = room.getSecondsRemaining();
+
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (room.getSecondsRemaining() > start - 2 && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+        }
+        assertTrue(room.getSecondsRemaining() <= start - 2, "the other Room stopped being ticked");
+        assertNull(_server.getRoom(failing.getId()));
+        assertTrue(failing.isOver());
+    }
+
+    @Test
+    void shutdownClosesEveryRoomDespiteFailingListeners() {
+        Room failing = _server.openRoom(4);
+        failing.addListener(new FailingListener());
+        Room room = _server.openRoom(4);
+
+        _server.shutdown();
+
+        assertEquals(0, _server.getNumRooms());
+        assertTrue(failing.isOver());
+        assertTrue(room.isOver());
+    }
+
+    /**
+     * FailingListener Class
+     * <p>
+     * The FailingListener class throws whenever the time changes or the Round is stopped, like a connection to a
+     * player that has gone away.
+     **/
+
+    private static class FailingListener implements RoundListener {
+        public void wordSubmitted(String word, boolean valid, int points) {
+        }
+
+        public void wordRepeated(String word) {
+        }
+
+        public void wordTooShort(String word) {
+        }
+
+        public void scoreChanged(int score) {
+        }
+
+        public void timeChanged(int secondsRemaining) {
+            throw new IllegalStateException("timeChanged failed");
+        }
+
+        public void roundOver() {
+        }
+
+        public void roundStopped() {
+            throw new IllegalStateException("roundStopped failed");
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package boggle;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * HintEngineTest Class
+ * <p>
+ * Checks that following every hint in a Round finds every word worth points, best word first, and that each hint
+ * points at a path that forms its word.
+ **/
+
+class HintEngineTest {
+    private static final int NUM_ROUNDS = 200;
+
+    @Test
+    void followingEveryHintReachesTheMaxScore() {
+        Lexicon trie = DictionaryService.get();
+        BoardGenerator generator = new BoardGenerator(42);
+        BoardSolver solver = new BoardSolver(trie);
+
+        for (int i = 0; i < NUM_ROUNDS; i++) {
+            AnswerSet answers = solver.solve(generator.nextBoard(5));
+            Round round = new Round(trie, answers);
+            int lastPoints = Integer.MAX_VALUE;
+            int numHints = 0;
+            HintEngine.Hint hint = round.getHint();
+            while (hint != null) {
+                assertTrue(hint.getPoints() <= lastPoints, hint.getWord() + " is worth more than the last hint");
+                assertEquals(Round.pointsFor(hint.getWord()), hint.getPoints());
+                assertArrayEquals(answers.getPath(hint.getWord()), hint.getPath());
+                lastPoints = hint.getPoints();
+                round.searchBoard(hint.getWord());
+                numHints++;
+                hint = round.getHint();
+            }
+            assertEquals(answers.getNumScoringWords(), numHints);
+            assertEquals(answers.getMaxScore(), round.getScore());
+        }
+    }
+
+    @Test
+    void skipsWordsAlreadyFound() {
+        Lexicon trie = DictionaryService.get();
+        Round round = new Round(trie, new BoardSolver(trie).solve(new BoardGenerator(42).nextBoard(4)));
+        HintEngine.Hint first = round.getHint();
+        HintEngine.Hint again = round.getHint();
+        assertEquals(first.getWord(), again.getWord());
+
+        round.searchBoard(first.getWord());
+        assertNotEquals(first.getWord(), round.getHint().getWord());
+    }
+}
@@ -0,0 +1,165 @@
+package boggle;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+/**
+ * MultiplayerRoundTest Class
+ * <p>
+ * Checks the classic Boggle scoring of a MultiplayerRound: players submitting from their own threads at the same time
+ * get the same final scores as a count done afterwards on a single thread, and nothing is counted after finish().
+ **/
+
+class MultiplayerRoundTest {
+    private static final int NUM_PLAYERS = 64;
+
+    private static MultiplayerRound newRound() {
+        return new MultiplayerRound(DictionaryService.get(), new GameBoard(new BoardGenerator(42).nextBoard(5)));
+    }
+
+    @Test
+    void cancelsWordsFoundByMoreThanOnePlayer() {
+        MultiplayerRound round = MultiplayerRoundTest.newRound();
+        List<String> answers = new ArrayList<>();
+        for (String word : round.getAnswers().getWords()) {
+            if (Round.pointsFor(word) > 0) {
+                answers.add(word);
+            }
+        }
+        String shared = answers.get(0);
+        String mine = answers.get(1);
+        round.join("a");
+        round.join("b");
+        round.join("a");
+
+        assertTrue(round.searchBoard("a", shared));
+        assertFalse(round.searchBoard("a", shared));
+        assertTrue(round.searchBoard("b", shared));
+        assertTrue(round.searchBoard("a", mine));
+        assertFalse(round.searchBoard("a", "zzzz"));
+
+        assertEquals(2, round.getNumPlayers());
+        assertEquals(2, round.getNumPlayersFound(shared));
+        assertEquals(Round.pointsFor(shared) + Round.pointsFor(mine), round.getRawScore("a"));
+        Map<String, Integer> scores = round.finish();
+        assertEquals(Round.pointsFor(mine), scores.get("a"));
+        assertEquals(0, scores.get("b"));
+        assertFalse(round.searchBoard("b", mine));
+        assertEquals(1, round.getNumPlayersFound(mine));
+    }
+
+    @Test
+    void rejectsPlayersWhoHaveNotJoined() {
+        MultiplayerRound round = MultiplayerRoundTest.newRound();
+        String word = round.getAnswers().getWords().iterator().next();
+        round.join("somebody");
+
+        assertThrows(IllegalArgumentException.class, () -> round.searchBoard("nobody", word));
+        assertThrows(IllegalArgumentException.class, () -> round.getFoundWords("nobody"));
+        assertThrows(IllegalArgumentException.class, () -> round.getRawScore("nobody"));
+    }
+
+    @Test
+    void scoresConcurrentPlayersLikeASingleThread() throws InterruptedException {
+        MultiplayerRound round = MultiplayerRoundTest.newRound();
+        ArrayList<String> answers = new ArrayList<>(round.getAnswers().getWords());
+
+        ArrayList<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < NUM_PLAYERS; i++) {
+            round.join("player" + i);
+            threads.add(new Thread(new Bot(round, "player" + i, answers, i)));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        Map<String, Integer> scores = round.finish();
+
+        HashMap<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < NUM_PLAYERS; i++) {
+            for (String word : round.getFoundWords("player" + i)) {
+                counts.merge(word, 1, Integer::sum);
+            }
+        }
+        for (int i = 0; i < NUM_PLAYERS; i++) {
+            int expected = 0;
+            for (String word : round.getFoundWords("player" + i)) {
+                if (counts.get(word) == 1) {
+                    expected += Round.pointsFor(word);
+                }
+            }
+            assertEquals(expected, scores.get("player" + i), "player" + i);
+        }
+    }
+
+    @Test
+    void countsEverySubmissionAcceptedBeforeFinish() throws InterruptedException {
+        MultiplayerRound round = MultiplayerRoundTest.newRound();
+        ArrayList<String> answers = new ArrayList<>(round.getAnswers().getWords());
+
+        ArrayList<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < NUM_PLAYERS; i++) {
+            round.join("player" + i);
+            threads.add(new Thread(new Bot(round, "player" + i, answers, i)));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        Map<String, Integer> scores = round.finish();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        //Words accepted while finish() was running must already be counted, and none may be accepted after it.
+        for (int i = 0; i < NUM_PLAYERS; i++) {
+            int expected = 0;
+            for (String word : round.getFoundWords("player" + i)) {
+                if (round.getNumPlayersFound(word) == 1) {
+                    expected += Round.pointsFor(word);
+                }
+            }
+            assertEquals(expected, scores.get("player" + i), "player" + i);
+        }
+    }
+
+    /**
+     * Bot Class
+     * <p>
+     * The Bot class is a player that submits every few words from the list of answers (how many it skips depends on
+     * its seed, so the bots overlap), twice each, along with a word that is not on the board.
+     **/
+
+    private static class Bot implements Runnable {
+        private final MultiplayerRound _round;
+        private final String _playerId;
+        private final ArrayList<String> _answers;
+        private final int _seed;
+
+        Bot(MultiplayerRound round, String playerId, ArrayList<String> answers, int seed) {
+            _round = round;
+            _playerId = playerId;
+            _answers = answers;
+            _seed = seed;
+        }
+
+        public void run() {
+            int step = (_seed % 7) + 1;
+            for (int repeat = 0; repeat < 2; repeat++) {
+                for (int i = _seed % step; i < _answers.size(); i += step) {
+                    _round.searchBoard(_playerId, _answers.get(i));
+                    _round.searchBoard(_playerId, "zzzz");
+                }
+            }
+        }
+    }
+}
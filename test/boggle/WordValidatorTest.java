@@ -0,0 +1,71 @@
+package boggle;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import org.junit.jupiter.api.Test;
+
+/**
+ * WordValidatorTest Class
+ * <p>
+ * Checks that the WordValidator agrees with the BoardSolver, and that validating words against a PackedBoard does
+ * not allocate anything on the heap.
+ **/
+
+class WordValidatorTest {
+    private static final String BOARD = "toarrbedteifdaienocerians";
+    private static final int NUM_CALLS = 1_000_000;
+
+    @Test
+    void agreesWithTheSolver() {
+        Lexicon trie = DictionaryService.get();
+        WordValidator validator = new WordValidator(trie);
+        for (String letters : new String[]{BOARD, "qaeiuqtrsn" + "qeaoilnrst" + "uqeao"}) {
+            PackedBoard board = BatchSolver.parse(letters);
+            GameBoard gameBoard = new GameBoard(board);
+            AnswerSet answers = new BoardSolver(trie).solve(board);
+            for (int id = 0; id < trie.getNumWords(); id++) {
+                String word = trie.getWord(id);
+                assertEquals(answers.contains(word), validator.isValid(word, board), word);
+                if (answers.contains(word)) {
+                    assertEquals(true, validator.isValid(word, gameBoard), word);
+                }
+            }
+        }
+    }
+
+    @Test
+    void validatingAgainstAPackedBoardDoesNotAllocate() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean, "the JVM cannot count allocated bytes");
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+
+        Lexicon trie = DictionaryService.get();
+        WordValidator validator = new WordValidator(trie);
+        PackedBoard board = BatchSolver.parse(BOARD);
+        String[] words = new String[trie.getNumWords()];
+        for (int id = 0; id < words.length; id++) {
+            words[id] = trie.getWord(id);
+        }
+
+        //Warm up so the measured calls run compiled code, then count the bytes allocated by the measured calls.
+        int found = this.validate(validator, board, words, NUM_CALLS);
+        long before = threads.getCurrentThreadAllocatedBytes();
+        found += this.validate(validator, board, words, NUM_CALLS);
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        assertEquals(0, allocated, "bytes allocated by " + NUM_CALLS + " calls to isValid() (" + found + " found)");
+    }
+
+    private int validate(WordValidator validator, PackedBoard board, String[] words, int numCalls) {
+        int found = 0;
+        for (int i = 0; i < numCalls; i++) {
+            if (validator.isValid(words[i % words.length], board)) {
+                found++;
+            }
+        }
+        return found;
+    }
+}